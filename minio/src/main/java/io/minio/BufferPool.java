@@ -0,0 +1,214 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size-classed pool of transfer buffers shared by upload, hashing and download paths of {@link
+ * MinioClient}. Buffers up to 1MiB are pooled in power of two size classes and bigger buffers in
+ * multiples of 1MiB, so part buffers of same part size are reused across parts and transfers.
+ * Released buffers are kept only while total pooled memory is within the configured cap. Default
+ * pool of a client keeps buffers up to the minimum part size of 5MiB within an 8MiB cap, i.e. one
+ * part buffer of default part size besides transfer and hashing buffers, so that idle buffers of
+ * many clients do not pin much memory. Part buffers bigger than 5MiB, and all part buffers of
+ * {@link PutObjectBaseArgs#parallelParts()} concurrent parts, are reused only by a pool created
+ * with a bigger cap.
+ *
+ * <pre>Example:{@code
+ * BufferPool bufferPool = new BufferPool(128L * 1024 * 1024, false);
+ * MinioClient minioClient =
+ *     MinioClient.builder()
+ *         .endpoint("https://play.min.io")
+ *         .credentials("Q3AM3UQ867SPQQA43P2F", "zuf+tfteSlswRu7BJ86wekitnifILbZam1KYY3TG")
+ *         .bufferPool(bufferPool)
+ *         .build();
+ * ...
+ * System.out.println("buffer pool hits " + bufferPool.hits() + " misses " + bufferPool.misses());
+ * }</pre>
+ */
+public class BufferPool {
+  // default cap of pooled memory is 8MiB.
+  public static final long DEFAULT_MAX_POOLED_BYTES = 8L * 1024 * 1024;
+  private static final int MIN_SIZE_CLASS = 4 * 1024;
+  private static final int MAX_POWER_OF_TWO_SIZE_CLASS = 1024 * 1024;
+
+  private final long maxPooledBytes;
+  private final int maxPooledSize; // biggest buffer kept in the pool.
+  private final boolean direct;
+  private final ConcurrentMap<Integer, Queue<byte[]>> arrays = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Integer, Queue<ByteBuffer>> buffers = new ConcurrentHashMap<>();
+  private final AtomicLong pooledBytes = new AtomicLong();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  /**
+   * Creates heap buffer pool with {@link #DEFAULT_MAX_POOLED_BYTES} cap keeping buffers up to
+   * minimum part size i.e. transfer and hashing buffers and part buffers of default part size.
+   */
+  public BufferPool() {
+    this(DEFAULT_MAX_POOLED_BYTES, ObjectWriteArgs.MIN_MULTIPART_SIZE, false);
+  }
+
+  /**
+   * Creates buffer pool keeping buffers of any size.
+   *
+   * @param maxPooledBytes Maximum total size of idle buffers kept in the pool.
+   * @param direct Whether byte buffers for channel I/O are direct buffers.
+   */
+  public BufferPool(long maxPooledBytes, boolean direct) {
+    this(maxPooledBytes, Integer.MAX_VALUE, direct);
+  }
+
+  private BufferPool(long maxPooledBytes, int maxPooledSize, boolean direct) {
+    if (maxPooledBytes < 0) {
+      throw new IllegalArgumentException("max pooled bytes must not be negative");
+    }
+
+    this.maxPooledBytes = maxPooledBytes;
+    this.maxPooledSize = maxPooledSize;
+    this.direct = direct;
+  }
+
+  public long maxPooledBytes() {
+    return maxPooledBytes;
+  }
+
+  public boolean isDirect() {
+    return direct;
+  }
+
+  /** Returns total size of idle buffers in the pool. */
+  public long pooledBytes() {
+    return pooledBytes.get();
+  }
+
+  /** Returns number of buffer requests served from the pool. */
+  public long hits() {
+    return hits.get();
+  }
+
+  /** Returns number of buffer requests served by allocating new buffer. */
+  public long misses() {
+    return misses.get();
+  }
+
+  /** Returns size class of given buffer size. */
+  static int sizeClass(int size) {
+    if (size <= MIN_SIZE_CLASS) {
+      return MIN_SIZE_CLASS;
+    }
+
+    if (size <= MAX_POWER_OF_TWO_SIZE_CLASS) {
+      return Integer.highestOneBit(size - 1) << 1;
+    }
+
+    long sizeClass =
+        ((size + (long) MAX_POWER_OF_TWO_SIZE_CLASS - 1) / MAX_POWER_OF_TWO_SIZE_CLASS)
+            * MAX_POWER_OF_TWO_SIZE_CLASS;
+    return (sizeClass > Integer.MAX_VALUE) ? size : (int) sizeClass;
+  }
+
+  /** Returns byte array of at least given size. */
+  byte[] acquireArray(int size) {
+    int sizeClass = sizeClass(size);
+    Queue<byte[]> queue = arrays.get(sizeClass);
+    byte[] array = (queue != null) ? queue.poll() : null;
+    if (array != null) {
+      pooledBytes.addAndGet(-array.length);
+      hits.incrementAndGet();
+      return array;
+    }
+
+    misses.incrementAndGet();
+    return new byte[sizeClass];
+  }
+
+  /** Returns given byte array, acquired by {@link #acquireArray(int)}, to the pool. */
+  void release(byte[] array) {
+    if (array == null
+        || array.length != sizeClass(array.length)
+        || array.length > maxPooledSize
+        || !reserve(array.length)) {
+      return;
+    }
+
+    Queue<byte[]> queue = arrays.get(array.length);
+    if (queue == null) {
+      arrays.putIfAbsent(array.length, new ConcurrentLinkedQueue<byte[]>());
+      queue = arrays.get(array.length);
+    }
+    queue.offer(array);
+  }
+
+  /**
+   * Returns cleared byte buffer, direct if this pool is direct, whose limit is given size. Its
+   * capacity may be bigger.
+   */
+  ByteBuffer acquire(int size) {
+    int sizeClass = sizeClass(size);
+    Queue<ByteBuffer> queue = buffers.get(sizeClass);
+    ByteBuffer buffer = (queue != null) ? queue.poll() : null;
+    if (buffer != null) {
+      pooledBytes.addAndGet(-buffer.capacity());
+      hits.incrementAndGet();
+    } else {
+      misses.incrementAndGet();
+      buffer = direct ? ByteBuffer.allocateDirect(sizeClass) : ByteBuffer.allocate(sizeClass);
+    }
+
+    buffer.clear();
+    buffer.limit(size);
+    return buffer;
+  }
+
+  /** Returns given byte buffer, acquired by {@link #acquire(int)}, to the pool. */
+  void release(ByteBuffer buffer) {
+    if (buffer == null
+        || buffer.capacity() != sizeClass(buffer.capacity())
+        || buffer.isDirect() != direct
+        || buffer.capacity() > maxPooledSize
+        || !reserve(buffer.capacity())) {
+      return;
+    }
+
+    Queue<ByteBuffer> queue = buffers.get(buffer.capacity());
+    if (queue == null) {
+      buffers.putIfAbsent(buffer.capacity(), new ConcurrentLinkedQueue<ByteBuffer>());
+      queue = buffers.get(buffer.capacity());
+    }
+    queue.offer(buffer);
+  }
+
+  /** Accounts given size as pooled if it fits into the cap. */
+  private boolean reserve(int size) {
+    while (true) {
+      long current = pooledBytes.get();
+      if (current + size > maxPooledBytes) {
+        return false;
+      }
+      if (pooledBytes.compareAndSet(current, current + size)) {
+        return true;
+      }
+    }
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+import com.google.common.primitives.Ints;
+
+import java.io.IOException;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ByteString;
+import okio.Okio;
+import okio.Sink;
+import okio.Timeout;
+
+/**
+ * RequestBody that sends wrapped body in unsigned aws-chunked encoding with CRC32C of the payload
+ * as trailing checksum. The checksum is computed while the payload is written.
+ */
+class ChecksumTrailerRequestBody extends RequestBody {
+  static final String STREAMING_UNSIGNED_PAYLOAD_TRAILER = "STREAMING-UNSIGNED-PAYLOAD-TRAILER";
+  static final String TRAILER = "x-amz-checksum-crc32c";
+  static final int CHUNK_SIZE = 64 * 1024;
+  // length of base64 encoded 4 byte checksum.
+  private static final int CHECKSUM_LENGTH = 8;
+  private static final String CRLF = "\r\n";
+
+  private final RequestBody body;
+
+  ChecksumTrailerRequestBody(RequestBody body) {
+    this.body = body;
+  }
+
+  /** Returns length of given payload length in aws-chunked encoding with trailer. */
+  static long encodedLength(long length) {
+    long encodedLength = (length / CHUNK_SIZE) * chunkOverhead(CHUNK_SIZE) + length;
+    int lastChunkSize = (int) (length % CHUNK_SIZE);
+    if (lastChunkSize > 0) {
+      encodedLength += chunkOverhead(lastChunkSize);
+    }
+    // final chunk "0\r\n", trailer "name:value\r\n" and "\r\n".
+    return encodedLength
+        + 1
+        + CRLF.length()
+        + TRAILER.length()
+        + 1
+        + CHECKSUM_LENGTH
+        + CRLF.length()
+        + CRLF.length();
+  }
+
+  private static int chunkOverhead(int chunkSize) {
+    return Integer.toHexString(chunkSize).length() + CRLF.length() + CRLF.length();
+  }
+
+  @Override
+  public MediaType contentType() {
+    return body.contentType();
+  }
+
+  @Override
+  public long contentLength() throws IOException {
+    return encodedLength(body.contentLength());
+  }
+
+  @Override
+  public void writeTo(BufferedSink sink) throws IOException {
+    ChunkingSink chunkingSink = new ChunkingSink(sink);
+    BufferedSink bufferedSink = Okio.buffer(chunkingSink);
+    body.writeTo(bufferedSink);
+    bufferedSink.flush();
+    chunkingSink.finish();
+  }
+
+  /** Sink which cuts written data into chunks and checksums them. */
+  private static class ChunkingSink implements Sink {
+    private final BufferedSink sink;
+    private final Buffer pending = new Buffer();
+    private final Hasher hasher = Hashing.crc32c().newHasher();
+
+    ChunkingSink(BufferedSink sink) {
+      this.sink = sink;
+    }
+
+    @Override
+    public void write(Buffer source, long byteCount) throws IOException {
+      pending.write(source, byteCount);
+      while (pending.size() >= CHUNK_SIZE) {
+        writeChunk(pending.readByteString(CHUNK_SIZE));
+      }
+    }
+
+    /** Writes remaining data, final empty chunk and checksum trailer. */
+    void finish() throws IOException {
+      if (pending.size() > 0) {
+        writeChunk(pending.readByteString());
+      }
+
+      String checksum = BaseEncoding.base64().encode(Ints.toByteArray(hasher.hash().asInt()));
+      sink.writeUtf8("0")
+          .writeUtf8(CRLF)
+          .writeUtf8(TRAILER)
+          .writeUtf8(":")
+          .writeUtf8(checksum)
+          .writeUtf8(CRLF)
+          .writeUtf8(CRLF);
+      sink.flush();
+    }
+
+    private void writeChunk(ByteString chunk) throws IOException {
+      chunk.write(Funnels.asOutputStream(hasher));
+      sink.writeUtf8(Integer.toHexString(chunk.size()))
+          .writeUtf8(CRLF)
+          .write(chunk)
+          .writeUtf8(CRLF);
+      sink.emitCompleteSegments();
+    }
+
+    @Override
+    public void flush() throws IOException {
+      sink.flush();
+    }
+
+    @Override
+    public Timeout timeout() {
+      return sink.timeout();
+    }
+
+    @Override
+    public void close() throws IOException {
+      // Underlying sink is owned by caller.
+    }
+  }
+}
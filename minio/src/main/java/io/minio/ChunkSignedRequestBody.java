@@ -0,0 +1,162 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import org.joda.time.DateTime;
+
+import java.io.IOException;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ByteString;
+import okio.Okio;
+import okio.Sink;
+import okio.Timeout;
+
+/**
+ * RequestBody that sends wrapped body in aws-chunked encoding with chunk signatures. Each chunk is
+ * hashed and signed while it is being written, chained from the seed signature of the request. See
+ * <a href="https://docs.aws.amazon.com/AmazonS3/latest/API/sigv4-streaming.html">Signature
+ * Calculations for the Authorization Header: Transferring Payload in Multiple Chunks</a>.
+ */
+class ChunkSignedRequestBody extends RequestBody {
+  static final String STREAMING_PAYLOAD = "STREAMING-AWS4-HMAC-SHA256-PAYLOAD";
+  static final int CHUNK_SIZE = 64 * 1024;
+  // length of hex encoded chunk signature.
+  private static final int SIGNATURE_LENGTH = 64;
+  private static final String CHUNK_SIGNATURE = ";chunk-signature=";
+  private static final String CRLF = "\r\n";
+
+  private final RequestBody body;
+  private final DateTime date;
+  private final String region;
+  private final String secretKey;
+  private final String seedSignature;
+
+  ChunkSignedRequestBody(
+      RequestBody body, DateTime date, String region, String secretKey, String seedSignature) {
+    this.body = body;
+    this.date = date;
+    this.region = region;
+    this.secretKey = secretKey;
+    this.seedSignature = seedSignature;
+  }
+
+  /** Returns length of given payload length in aws-chunked encoding. */
+  static long encodedLength(long length) {
+    long encodedLength = (length / CHUNK_SIZE) * chunkOverhead(CHUNK_SIZE) + length;
+    int lastChunkSize = (int) (length % CHUNK_SIZE);
+    if (lastChunkSize > 0) {
+      encodedLength += chunkOverhead(lastChunkSize);
+    }
+    return encodedLength + chunkOverhead(0);
+  }
+
+  private static int chunkOverhead(int chunkSize) {
+    return Integer.toHexString(chunkSize).length()
+        + CHUNK_SIGNATURE.length()
+        + SIGNATURE_LENGTH
+        + CRLF.length()
+        + CRLF.length();
+  }
+
+  @Override
+  public MediaType contentType() {
+    return body.contentType();
+  }
+
+  @Override
+  public long contentLength() throws IOException {
+    return encodedLength(body.contentLength());
+  }
+
+  @Override
+  public void writeTo(BufferedSink sink) throws IOException {
+    ChunkingSink chunkingSink = new ChunkingSink(sink);
+    BufferedSink bufferedSink = Okio.buffer(chunkingSink);
+    body.writeTo(bufferedSink);
+    bufferedSink.flush();
+    chunkingSink.finish();
+  }
+
+  /** Sink which cuts written data into signed chunks. */
+  private class ChunkingSink implements Sink {
+    private final BufferedSink sink;
+    private final Buffer pending = new Buffer();
+    private String prevSignature = seedSignature;
+
+    ChunkingSink(BufferedSink sink) {
+      this.sink = sink;
+    }
+
+    @Override
+    public void write(Buffer source, long byteCount) throws IOException {
+      pending.write(source, byteCount);
+      while (pending.size() >= CHUNK_SIZE) {
+        writeChunk(pending.readByteString(CHUNK_SIZE));
+      }
+    }
+
+    /** Writes remaining data and final empty chunk. */
+    void finish() throws IOException {
+      if (pending.size() > 0) {
+        writeChunk(pending.readByteString());
+      }
+      writeChunk(ByteString.EMPTY);
+      sink.flush();
+    }
+
+    private void writeChunk(ByteString chunk) throws IOException {
+      String signature;
+      try {
+        signature =
+            Signer.getChunkSignature(
+                chunk.sha256().hex(), date, region, secretKey, prevSignature);
+      } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+        throw new IOException("unable to sign chunk", e);
+      }
+      prevSignature = signature;
+
+      sink.writeUtf8(Integer.toHexString(chunk.size()))
+          .writeUtf8(CHUNK_SIGNATURE)
+          .writeUtf8(signature)
+          .writeUtf8(CRLF)
+          .write(chunk)
+          .writeUtf8(CRLF);
+      sink.emitCompleteSegments();
+    }
+
+    @Override
+    public void flush() throws IOException {
+      sink.flush();
+    }
+
+    @Override
+    public Timeout timeout() {
+      return sink.timeout();
+    }
+
+    @Override
+    public void close() throws IOException {
+      // Underlying sink is owned by caller.
+    }
+  }
+}
@@ -21,6 +21,7 @@ import com.google.common.io.BaseEncoding;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -31,6 +32,8 @@ import io.minio.errors.InternalException;
 
 /** Various global static functions used. */
 class Digest {
+  private static final int BUFFER_SIZE = 16 * 1024;
+
   /** Private constructor. */
   private Digest() {}
 
@@ -45,17 +48,23 @@ class Digest {
   /**
    * Returns SHA-256 hash of given data and it's length.
    *
-   * @param data must be {@link RandomAccessFile}, {@link BufferedInputStream} or byte array.
+   * @param data must be {@link RandomAccessFile}, {@link FileRegion}, {@link BufferedInputStream},
+   *     {@link ByteBuffer} or byte array.
    * @param len length of data to be read for hash calculation.
+   * @param pool buffer pool to take read buffer from.
    */
-  public static String sha256Hash(Object data, int len)
+  public static String sha256Hash(Object data, int len, BufferPool pool)
       throws NoSuchAlgorithmException, IOException, InsufficientDataException, InternalException {
     MessageDigest sha256Digest = MessageDigest.getInstance("SHA-256");
 
-    if (data instanceof BufferedInputStream || data instanceof RandomAccessFile) {
-      updateDigests(data, len, sha256Digest, null);
+    if (data instanceof BufferedInputStream
+        || data instanceof RandomAccessFile
+        || data instanceof FileRegion) {
+      updateDigests(data, len, sha256Digest, null, pool);
     } else if (data instanceof byte[]) {
       sha256Digest.update((byte[]) data, 0, len);
+    } else if (data instanceof ByteBuffer) {
+      sha256Digest.update(view((ByteBuffer) data, len));
     } else {
       throw new InternalException(
           "Unknown data source to calculate sha256 hash. This should not happen, "
@@ -68,19 +77,26 @@ class Digest {
   /**
    * Returns SHA-256 and MD5 hashes of given data and it's length.
    *
-   * @param data must be {@link RandomAccessFile}, {@link BufferedInputStream} or byte array.
+   * @param data must be {@link RandomAccessFile}, {@link FileRegion}, {@link BufferedInputStream},
+   *     {@link ByteBuffer} or byte array.
    * @param len length of data to be read for hash calculation.
+   * @param pool buffer pool to take read buffer from.
    */
-  public static String[] sha256Md5Hashes(Object data, int len)
+  public static String[] sha256Md5Hashes(Object data, int len, BufferPool pool)
       throws NoSuchAlgorithmException, IOException, InsufficientDataException, InternalException {
     MessageDigest sha256Digest = MessageDigest.getInstance("SHA-256");
     MessageDigest md5Digest = MessageDigest.getInstance("MD5");
 
-    if (data instanceof BufferedInputStream || data instanceof RandomAccessFile) {
-      updateDigests(data, len, sha256Digest, md5Digest);
+    if (data instanceof BufferedInputStream
+        || data instanceof RandomAccessFile
+        || data instanceof FileRegion) {
+      updateDigests(data, len, sha256Digest, md5Digest, pool);
     } else if (data instanceof byte[]) {
       sha256Digest.update((byte[]) data, 0, len);
       md5Digest.update((byte[]) data, 0, len);
+    } else if (data instanceof ByteBuffer) {
+      sha256Digest.update(view((ByteBuffer) data, len));
+      md5Digest.update(view((ByteBuffer) data, len));
     } else {
       throw new InternalException(
           "Unknown data source to calculate sha256 hash. This should not happen, "
@@ -96,17 +112,23 @@ class Digest {
   /**
    * Returns MD5 hash of given data and it's length.
    *
-   * @param data must be {@link RandomAccessFile}, {@link BufferedInputStream} or byte array.
+   * @param data must be {@link RandomAccessFile}, {@link FileRegion}, {@link BufferedInputStream},
+   *     {@link ByteBuffer} or byte array.
    * @param len length of data to be read for hash calculation.
+   * @param pool buffer pool to take read buffer from.
    */
-  public static String md5Hash(Object data, int len)
+  public static String md5Hash(Object data, int len, BufferPool pool)
       throws NoSuchAlgorithmException, IOException, InsufficientDataException, InternalException {
     MessageDigest md5Digest = MessageDigest.getInstance("MD5");
 
-    if (data instanceof BufferedInputStream || data instanceof RandomAccessFile) {
-      updateDigests(data, len, null, md5Digest);
+    if (data instanceof BufferedInputStream
+        || data instanceof RandomAccessFile
+        || data instanceof FileRegion) {
+      updateDigests(data, len, null, md5Digest, pool);
     } else if (data instanceof byte[]) {
       md5Digest.update((byte[]) data, 0, len);
+    } else if (data instanceof ByteBuffer) {
+      md5Digest.update(view((ByteBuffer) data, len));
     } else {
       throw new InternalException(
           "Unknown data source to calculate sha256 hash. This should not happen, "
@@ -116,10 +138,33 @@ class Digest {
     return BaseEncoding.base64().encode(md5Digest.digest());
   }
 
-  /** Updated MessageDigest with bytes read from file and stream. */
+  /**
+   * Returns view of first {@code len} remaining bytes of given buffer, so that hashing does not
+   * move position of the buffer.
+   */
+  private static ByteBuffer view(ByteBuffer buffer, int len) throws InsufficientDataException {
+    if (buffer.remaining() < len) {
+      throw new InsufficientDataException(
+          "Insufficient data.  bytes read " + buffer.remaining() + " expected " + len);
+    }
+
+    ByteBuffer view = buffer.duplicate();
+    view.limit(view.position() + len);
+    return view;
+  }
+
+  /** Updated MessageDigest with bytes read from file, file region and stream. */
   private static int updateDigests(
-      Object inputStream, int len, MessageDigest sha256Digest, MessageDigest md5Digest)
+      Object inputStream,
+      int len,
+      MessageDigest sha256Digest,
+      MessageDigest md5Digest,
+      BufferPool pool)
       throws IOException, InsufficientDataException {
+    if (inputStream instanceof FileRegion) {
+      return updateDigests((FileRegion) inputStream, len, sha256Digest, md5Digest, pool);
+    }
+
     RandomAccessFile file = null;
     BufferedInputStream stream = null;
     if (inputStream instanceof RandomAccessFile) {
@@ -132,52 +177,98 @@ class Digest {
     long pos = 0;
     if (file != null) {
       pos = file.getFilePointer();
-    } else {
+    } else if (stream != null) {
       stream.mark(len);
     }
 
     // 16KiB buffer for optimization
-    byte[] buf = new byte[16384];
-    int bytesToRead = buf.length;
+    byte[] buf = pool.acquireArray(BUFFER_SIZE);
+    int bytesToRead = BUFFER_SIZE;
     int bytesRead = 0;
     int totalBytesRead = 0;
-    while (totalBytesRead < len) {
-      if ((len - totalBytesRead) < bytesToRead) {
-        bytesToRead = len - totalBytesRead;
-      }
-
-      if (file != null) {
-        bytesRead = file.read(buf, 0, bytesToRead);
-      } else {
-        bytesRead = stream.read(buf, 0, bytesToRead);
-      }
-
-      if (bytesRead < 0) {
-        // reached EOF
-        throw new InsufficientDataException(
-            "Insufficient data.  bytes read " + totalBytesRead + " expected " + len);
-      }
+    try {
+      while (totalBytesRead < len) {
+        if ((len - totalBytesRead) < bytesToRead) {
+          bytesToRead = len - totalBytesRead;
+        }
 
-      if (bytesRead > 0) {
-        if (sha256Digest != null) {
-          sha256Digest.update(buf, 0, bytesRead);
+        if (file != null) {
+          bytesRead = file.read(buf, 0, bytesToRead);
+        } else {
+          bytesRead = stream.read(buf, 0, bytesToRead);
         }
 
-        if (md5Digest != null) {
-          md5Digest.update(buf, 0, bytesRead);
+        if (bytesRead < 0) {
+          // reached EOF
+          throw new InsufficientDataException(
+              "Insufficient data.  bytes read " + totalBytesRead + " expected " + len);
         }
 
-        totalBytesRead += bytesRead;
+        if (bytesRead > 0) {
+          if (sha256Digest != null) {
+            sha256Digest.update(buf, 0, bytesRead);
+          }
+
+          if (md5Digest != null) {
+            md5Digest.update(buf, 0, bytesRead);
+          }
+
+          totalBytesRead += bytesRead;
+        }
       }
+    } finally {
+      pool.release(buf);
     }
 
     // reset back to saved position.
     if (file != null) {
       file.seek(pos);
-    } else {
+    } else if (stream != null) {
       stream.reset();
     }
 
     return totalBytesRead;
   }
+
+  /**
+   * Updated MessageDigest with bytes read from file region. Region is read positionally into a
+   * pooled byte buffer, which is direct if the pool is direct.
+   */
+  private static int updateDigests(
+      FileRegion region,
+      int len,
+      MessageDigest sha256Digest,
+      MessageDigest md5Digest,
+      BufferPool pool)
+      throws IOException, InsufficientDataException {
+    ByteBuffer buf = pool.acquire(BUFFER_SIZE);
+    int totalBytesRead = 0;
+    try {
+      while (totalBytesRead < len) {
+        buf.clear();
+        buf.limit(Math.min(BUFFER_SIZE, len - totalBytesRead));
+        int bytesRead = region.read(buf, totalBytesRead);
+        if (bytesRead < 0) {
+          // reached EOF
+          throw new InsufficientDataException(
+              "Insufficient data.  bytes read " + totalBytesRead + " expected " + len);
+        }
+
+        buf.flip();
+        if (sha256Digest != null) {
+          sha256Digest.update(buf.duplicate());
+        }
+
+        if (md5Digest != null) {
+          md5Digest.update(buf);
+        }
+
+        totalBytesRead += bytesRead;
+      }
+    } finally {
+      pool.release(buf);
+    }
+
+    return totalBytesRead;
+  }
 }
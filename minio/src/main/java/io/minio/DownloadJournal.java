@@ -0,0 +1,166 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * On-disk progress record of a resumable download. Header records bucket, object, version ID,
+ * ETag, object size and range size; progress of each range is appended as its own record after
+ * downloaded data is synced to disk, so every recorded offset is durable and a torn or corrupt
+ * trailing record after a crash is simply dropped on load.
+ */
+class DownloadJournal {
+  private static final int MAGIC = 0x4d444a32; // "MDJ2"
+
+  private final String bucketName;
+  private final String objectName;
+  private final String versionId;
+  private final String etag;
+  private final long length;
+  private final long rangeSize;
+  private final Map<Long, Long> offsets = new HashMap<>();
+  private JournalFile journalFile;
+
+  private DownloadJournal(
+      String bucketName,
+      String objectName,
+      String versionId,
+      String etag,
+      long length,
+      long rangeSize) {
+    this.bucketName = bucketName;
+    this.objectName = objectName;
+    this.versionId = versionId;
+    this.etag = etag;
+    this.length = length;
+    this.rangeSize = rangeSize;
+  }
+
+  /** Creates new journal file for given download, replacing existing file if any. */
+  public static DownloadJournal create(
+      File file,
+      String bucketName,
+      String objectName,
+      String versionId,
+      String etag,
+      long length,
+      long rangeSize)
+      throws IOException {
+    DownloadJournal journal =
+        new DownloadJournal(
+            bucketName,
+            objectName,
+            (versionId != null) ? versionId : "",
+            etag,
+            length,
+            rangeSize);
+    journal.journalFile =
+        JournalFile.create(
+            file,
+            MAGIC,
+            out -> {
+              out.writeUTF(bucketName);
+              out.writeUTF(objectName);
+              out.writeUTF(journal.versionId);
+              out.writeUTF(etag);
+              out.writeLong(length);
+              out.writeLong(rangeSize);
+            });
+    return journal;
+  }
+
+  /**
+   * Loads journal from given file. Returns null if file does not exist or it is not a valid
+   * journal.
+   */
+  public static DownloadJournal load(File file) throws IOException {
+    DownloadJournal[] journal = new DownloadJournal[1];
+    JournalFile journalFile =
+        JournalFile.load(
+            file,
+            MAGIC,
+            in ->
+                journal[0] =
+                    new DownloadJournal(
+                        in.readUTF(),
+                        in.readUTF(),
+                        in.readUTF(),
+                        in.readUTF(),
+                        in.readLong(),
+                        in.readLong()),
+            in -> {
+              long rangeOffset = in.readLong();
+              long offset = in.readLong();
+              journal[0].offsets.put(rangeOffset, offset);
+            });
+    if (journalFile == null) {
+      return null;
+    }
+
+    journal[0].journalFile = journalFile;
+    return journal[0];
+  }
+
+  /** Returns whether this journal is of given version of given object. */
+  public boolean matches(
+      String bucketName,
+      String objectName,
+      String versionId,
+      String etag,
+      long length,
+      long rangeSize) {
+    return this.bucketName.equals(bucketName)
+        && this.objectName.equals(objectName)
+        && this.versionId.equals((versionId != null) ? versionId : "")
+        && this.etag.equals(etag)
+        && this.length == length
+        && this.rangeSize == rangeSize;
+  }
+
+  /**
+   * Returns offset up to which data of range starting at given offset is durably downloaded; the
+   * range offset itself if nothing is recorded.
+   */
+  public synchronized long offset(long rangeOffset) {
+    Long offset = offsets.get(rangeOffset);
+    return (offset != null) ? offset : rangeOffset;
+  }
+
+  /** Records data of given range up to given offset as downloaded and syncs it to disk. */
+  public synchronized void append(long rangeOffset, long offset) throws IOException {
+    journalFile.append(
+        out -> {
+          out.writeLong(rangeOffset);
+          out.writeLong(offset);
+        });
+    offsets.put(rangeOffset, offset);
+  }
+
+  /** Closes the journal keeping its file for later resume. */
+  public synchronized void close() throws IOException {
+    journalFile.close();
+  }
+
+  /** Closes and removes journal file. */
+  public synchronized void delete() throws IOException {
+    journalFile.delete();
+  }
+}
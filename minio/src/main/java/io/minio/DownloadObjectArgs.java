@@ -20,24 +20,90 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+/** Argument class of MinioClient.downloadObject(). */
 public class DownloadObjectArgs extends ObjectReadArgs {
+  // default size of ranges fetched concurrently is 8MiB.
+  public static final long DEFAULT_RANGE_SIZE = 8L * 1024 * 1024;
+
   private String filename;
+  private int parallelRanges = 1;
+  private long rangeSize;
+  private boolean resumable;
 
   public String filename() {
     return filename;
   }
 
+  /** Gets number of byte ranges fetched concurrently. */
+  public int parallelRanges() {
+    return parallelRanges;
+  }
+
+  /** Gets size of byte ranges fetched concurrently; zero for default. */
+  public long rangeSize() {
+    return rangeSize;
+  }
+
+  /** Gets whether partially downloaded data is kept on failure to resume from it. */
+  public boolean resumable() {
+    return resumable;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
 
+  /** Argument builder of {@link DownloadObjectArgs}. */
   public static final class Builder extends ObjectReadArgs.Builder<Builder, DownloadObjectArgs> {
+    @Override
+    protected void validate(DownloadObjectArgs args) {
+      super.validate(args);
+      validateFileName(args.filename);
+    }
+
     public Builder filename(String filename) {
       validateFileName(filename);
       operations.add(args -> args.filename = filename);
       return this;
     }
 
+    /**
+     * Sets number of byte ranges to fetch concurrently. Default is 1 i.e. object is fetched by a
+     * single request.
+     */
+    public Builder parallelRanges(int parallelRanges) {
+      if (parallelRanges < 1) {
+        throw new IllegalArgumentException("parallel ranges must be greater than zero");
+      }
+
+      operations.add(args -> args.parallelRanges = parallelRanges);
+      return this;
+    }
+
+    /**
+     * Sets size of byte ranges fetched concurrently. Default is {@link #DEFAULT_RANGE_SIZE} if
+     * {@link #parallelRanges(int)} is set.
+     */
+    public Builder rangeSize(long rangeSize) {
+      if (rangeSize <= 0) {
+        throw new IllegalArgumentException("range size must be greater than zero");
+      }
+
+      operations.add(args -> args.rangeSize = rangeSize);
+      return this;
+    }
+
+    /**
+     * Sets whether to resume download. Resumable download writes object data to {@code
+     * <filename>.part} and its progress to {@code <filename>.part.progress}, which are kept on
+     * failure; next download of same object to same file fetches only data not yet downloaded,
+     * provided the object is not changed meanwhile.
+     */
+    public Builder resumable(boolean resumable) {
+      operations.add(args -> args.resumable = resumable);
+      return this;
+    }
+
     private void validateFileName(String filename) {
       validateNotEmptyString(filename, "filename");
 
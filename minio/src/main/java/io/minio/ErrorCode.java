@@ -31,6 +31,7 @@ public enum ErrorCode {
   RESOURCE_NOT_FOUND("ResourceNotFound", "Request resource not found"),
   RESOURCE_CONFLICT("ResourceConflict", "Request resource conflicts"),
   RETRY_HEAD_BUCKET("RetryHeadBucket", "Retry HEAD bucket request"),
+  NOT_MODIFIED("NotModified", "Object is not modified"),
 
   // S3 error codes
   ACCESS_DENIED("AccessDenied", "Access denied"),
@@ -0,0 +1,96 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Region of a file channel used as request data. All reads are positional, so the channel's own
+ * position is never used and many regions of the same channel can be read concurrently. Sending a
+ * region avoids reads through {@link java.io.RandomAccessFile} and a file handle per part, not
+ * copies; transferred bytes are still copied into heap segments of an Okio sink.
+ */
+class FileRegion {
+  // size of buffer used when the channel makes no progress transferring bytes itself.
+  private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
+  private final FileChannel channel;
+  private final long position;
+  private final long length;
+
+  FileRegion(FileChannel channel, long position, long length) {
+    this.channel = channel;
+    this.position = position;
+    this.length = length;
+  }
+
+  public FileChannel channel() {
+    return channel;
+  }
+
+  public long position() {
+    return position;
+  }
+
+  public long length() {
+    return length;
+  }
+
+  /** Returns region of given offset and length within this region. */
+  public FileRegion slice(long offset, long length) {
+    return new FileRegion(channel, position + offset, length);
+  }
+
+  /** Reads bytes at given offset of this region into given buffer. Returns -1 at end of file. */
+  public int read(ByteBuffer dst, long offset) throws IOException {
+    return channel.read(dst, position + offset);
+  }
+
+  /**
+   * Transfers first {@code count} bytes of this region to given channel. If the channel transfers
+   * nothing before end of file, which some channels do when the target is not ready, bytes are
+   * read and written by this method instead.
+   */
+  public void transferTo(long count, WritableByteChannel target) throws IOException {
+    long transferred = 0;
+    ByteBuffer buffer = null;
+    while (transferred < count) {
+      long n = channel.transferTo(position + transferred, count - transferred, target);
+      if (n <= 0) {
+        if (buffer == null) {
+          buffer = ByteBuffer.allocate((int) Math.min(count - transferred, TRANSFER_BUFFER_SIZE));
+        }
+        buffer.clear();
+        buffer.limit((int) Math.min(count - transferred, buffer.capacity()));
+        n = channel.read(buffer, position + transferred);
+        if (n < 0) {
+          throw new EOFException(
+              "unexpected end of file; transferred " + transferred + " expected " + count);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+          target.write(buffer);
+        }
+      }
+      transferred += n;
+    }
+  }
+}
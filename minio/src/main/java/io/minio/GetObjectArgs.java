@@ -18,6 +18,9 @@ package io.minio;
 
 /** Argument class of MinioClient.getObject(). */
 public class GetObjectArgs extends ObjectConditionalReadArgs {
+  private int parallelRanges = 1;
+  private long rangeSize;
+
   protected GetObjectArgs() {}
 
   public GetObjectArgs(DownloadObjectArgs args) {
@@ -30,11 +33,81 @@ public class GetObjectArgs extends ObjectConditionalReadArgs {
     this.ssec = args.ssec;
   }
 
+  /** Creates arguments to get given range of object of given arguments pinned to ETag. */
+  GetObjectArgs(ObjectReadArgs args, long offset, long length, String matchETag) {
+    this.extraHeaders = args.extraHeaders;
+    this.extraQueryParams = args.extraQueryParams;
+    this.bucketName = args.bucketName;
+    this.region = args.region;
+    this.objectName = args.objectName;
+    this.versionId = args.versionId;
+    this.ssec = args.ssec;
+    if (args instanceof ObjectConditionalReadArgs) {
+      ObjectConditionalReadArgs conditionalArgs = (ObjectConditionalReadArgs) args;
+      this.notMatchETag = conditionalArgs.notMatchETag;
+      this.modifiedSince = conditionalArgs.modifiedSince;
+      this.unmodifiedSince = conditionalArgs.unmodifiedSince;
+    }
+    this.offset = offset;
+    this.length = length;
+    this.matchETag = matchETag;
+  }
+
+  /** Gets number of byte ranges fetched ahead concurrently. */
+  public int parallelRanges() {
+    return parallelRanges;
+  }
+
+  /** Gets size of byte ranges fetched ahead concurrently; zero for default. */
+  public long rangeSize() {
+    return rangeSize;
+  }
+
+  /** Creates arguments to get whole object of given arguments unless it has given ETag. */
+  GetObjectArgs(GetObjectArgs args, String notMatchETag) {
+    this.extraHeaders = args.extraHeaders;
+    this.extraQueryParams = args.extraQueryParams;
+    this.bucketName = args.bucketName;
+    this.region = args.region;
+    this.objectName = args.objectName;
+    this.versionId = args.versionId;
+    this.ssec = args.ssec;
+    this.notMatchETag = notMatchETag;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
 
   /** Argument builder of {@link GetObjectArgs}. */
   public static final class Builder
-      extends ObjectConditionalReadArgs.Builder<Builder, GetObjectArgs> {}
+      extends ObjectConditionalReadArgs.Builder<Builder, GetObjectArgs> {
+    /**
+     * Sets number of byte ranges to fetch ahead concurrently. Default is 1 i.e. object data is
+     * streamed by a single request.
+     */
+    public Builder parallelRanges(int parallelRanges) {
+      if (parallelRanges < 1) {
+        throw new IllegalArgumentException("parallel ranges must be greater than zero");
+      }
+
+      operations.add(args -> args.parallelRanges = parallelRanges);
+      return this;
+    }
+
+    /**
+     * Sets size of byte ranges fetched ahead concurrently. Default is {@link
+     * DownloadObjectArgs#DEFAULT_RANGE_SIZE} if {@link #parallelRanges(int)} is set. Each range in
+     * flight is buffered in memory.
+     */
+    public Builder rangeSize(long rangeSize) {
+      if (rangeSize <= 0 || rangeSize > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException(
+            "range size must be greater than zero and less than 2GiB");
+      }
+
+      operations.add(args -> args.rangeSize = rangeSize);
+      return this;
+    }
+  }
 }
@@ -0,0 +1,119 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import org.joda.time.DateTime;
+
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import okhttp3.Headers;
+
+/**
+ * Response class of MinioClient.getObject(). Object data is read from this stream, and object
+ * information is taken from headers of the same GET response, so that no separate stat is needed.
+ */
+public class GetObjectResponse extends FilterInputStream {
+  private static final String USER_METADATA_PREFIX = "x-amz-meta-";
+
+  private final Headers headers;
+  private final String bucket;
+  private final String region;
+  private final String object;
+
+  public GetObjectResponse(
+      Headers headers, String bucket, String region, String object, InputStream body) {
+    super(body);
+    this.headers = headers;
+    this.bucket = bucket;
+    this.region = region;
+    this.object = object;
+  }
+
+  public Headers headers() {
+    return headers;
+  }
+
+  public String bucket() {
+    return bucket;
+  }
+
+  public String region() {
+    return region;
+  }
+
+  public String object() {
+    return object;
+  }
+
+  /** Returns length of data of this response; -1 if unknown. */
+  public long length() {
+    String value = headers.get("Content-Length");
+    return (value != null) ? Long.parseLong(value) : -1;
+  }
+
+  /**
+   * Returns size of the object. For a range read, it is the total size from Content-Range header,
+   * else it is same as {@link #length()}.
+   */
+  public long objectSize() {
+    String value = headers.get("Content-Range");
+    if (value != null) {
+      int index = value.lastIndexOf('/');
+      if (index >= 0 && !value.endsWith("*")) {
+        return Long.parseLong(value.substring(index + 1).trim());
+      }
+    }
+    return length();
+  }
+
+  /** Returns ETag of the object without quotes. */
+  public String etag() {
+    String value = headers.get("ETag");
+    return (value != null) ? value.replaceAll("\"", "") : "";
+  }
+
+  public String versionId() {
+    return headers.get("x-amz-version-id");
+  }
+
+  public String contentType() {
+    return headers.get("Content-Type");
+  }
+
+  /** Returns last modified time of the object; null if not known. */
+  public DateTime lastModified() {
+    String value = headers.get("Last-Modified");
+    return (value != null) ? DateTime.parse(value, Time.HTTP_HEADER_DATE_FORMAT) : null;
+  }
+
+  /** Returns user metadata of the object with lower-case keys without "x-amz-meta-" prefix. */
+  public Map<String, String> userMetadata() {
+    Map<String, String> userMetadata = new HashMap<>();
+    for (String name : headers.names()) {
+      String key = name.toLowerCase(Locale.US);
+      if (key.startsWith(USER_METADATA_PREFIX)) {
+        userMetadata.put(key.substring(USER_METADATA_PREFIX.length()), headers.get(name));
+      }
+    }
+    return Collections.unmodifiableMap(userMetadata);
+  }
+}
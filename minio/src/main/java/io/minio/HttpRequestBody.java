@@ -19,7 +19,7 @@ package io.minio;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
-import java.nio.channels.Channels;
+import java.nio.ByteBuffer;
 
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
@@ -29,13 +29,24 @@ import okio.Okio;
 /** RequestBody that wraps a single data object. */
 class HttpRequestBody extends RequestBody {
   private RandomAccessFile file = null;
+  private FileRegion region = null;
   private BufferedInputStream stream = null;
   private byte[] bytes = null;
+  private ByteBuffer buffer = null;
   private int length = -1;
   private String contentType = null;
 
-  HttpRequestBody(final RandomAccessFile file, final int length, final String contentType) {
+  HttpRequestBody(final RandomAccessFile file, final int length, final String contentType)
+      throws IOException {
+    // Data is read positionally from current file pointer which is advanced after write.
     this.file = file;
+    this.region = new FileRegion(file.getChannel(), file.getFilePointer(), length);
+    this.length = length;
+    this.contentType = contentType;
+  }
+
+  HttpRequestBody(final FileRegion region, final int length, final String contentType) {
+    this.region = region;
     this.length = length;
     this.contentType = contentType;
   }
@@ -52,6 +63,12 @@ class HttpRequestBody extends RequestBody {
     this.contentType = contentType;
   }
 
+  HttpRequestBody(final ByteBuffer buffer, final int length, final String contentType) {
+    this.buffer = buffer;
+    this.length = length;
+    this.contentType = contentType;
+  }
+
   @Override
   public MediaType contentType() {
     MediaType mediaType = null;
@@ -73,10 +90,22 @@ class HttpRequestBody extends RequestBody {
 
   @Override
   public void writeTo(BufferedSink sink) throws IOException {
-    if (file != null) {
-      sink.write(Okio.source(Channels.newInputStream(file.getChannel())), length);
+    if (region != null) {
+      // Hand the sink to the channel as a WritableByteChannel; file data is copied into Okio
+      // segments by the channel instead of being read through RandomAccessFile.
+      region.transferTo(length, sink);
+      if (file != null) {
+        file.seek(region.position() + length);
+      }
     } else if (stream != null) {
       sink.write(Okio.source(stream), length);
+    } else if (buffer != null) {
+      // Write a view of the buffer, so that retried request sends it again from its position.
+      ByteBuffer data = buffer.duplicate();
+      data.limit(data.position() + length);
+      while (data.hasRemaining()) {
+        sink.write(data);
+      }
     } else {
       sink.write(bytes, 0, length);
     }
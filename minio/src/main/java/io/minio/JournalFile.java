@@ -0,0 +1,223 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal file shared by {@link UploadJournal}, {@link DownloadJournal} and {@link
+ * ListingSnapshotFile}. File starts with a magic number followed by header and zero or more
+ * records, each framed as its length, payload and CRC32 of payload. New file is written to a
+ * temporary file and renamed into place; every appended record is synced to disk. On load, a torn
+ * or corrupt trailing record and everything after it is dropped and truncated away.
+ */
+class JournalFile {
+  /** Writes a header or record payload. */
+  interface Writer {
+    void write(DataOutputStream out) throws IOException;
+  }
+
+  /** Reads a header or record payload. */
+  interface Reader {
+    void read(DataInputStream in) throws IOException;
+  }
+
+  private static final int FRAME_OVERHEAD = 8; // length + CRC32
+
+  private final File file;
+  private final FileOutputStream out;
+
+  private JournalFile(File file, FileOutputStream out) {
+    this.file = file;
+    this.out = out;
+  }
+
+  /**
+   * Creates new journal file with given magic number and header, atomically replacing existing file
+   * if any.
+   */
+  public static JournalFile create(File file, int magic, Writer header) throws IOException {
+    ByteArrayOutputStream buf = new ByteArrayOutputStream();
+    DataOutputStream dos = new DataOutputStream(buf);
+    dos.writeInt(magic);
+    dos.write(frame(header));
+    dos.flush();
+
+    File tempFile = new File(file.getPath() + ".tmp");
+    boolean done = false;
+    try {
+      try (FileOutputStream fos = new FileOutputStream(tempFile, false)) {
+        fos.write(buf.toByteArray());
+        fos.getFD().sync();
+      }
+
+      Files.move(
+          tempFile.toPath(),
+          file.toPath(),
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+      done = true;
+    } finally {
+      if (!done) {
+        tempFile.delete();
+      }
+    }
+
+    return new JournalFile(file, new FileOutputStream(file, true));
+  }
+
+  /**
+   * Loads journal file with given magic number, passing its header to given header reader and each
+   * intact record to given record reader. Returns null if file does not exist, is of other magic
+   * number or its header is torn or corrupt.
+   */
+  public static JournalFile load(File file, int magic, Reader header, Reader record)
+      throws IOException {
+    long length = read(file, magic, header, record);
+    return (length < 0) ? null : open(file, length);
+  }
+
+  /**
+   * Reads journal file with given magic number like {@link #load} without opening it for append.
+   * Returns length of the file up to its last intact record; -1 if file does not exist, is of other
+   * magic number or its header is torn or corrupt.
+   */
+  public static long read(File file, int magic, Reader header, Reader record) throws IOException {
+    if (!file.isFile()) {
+      return -1;
+    }
+
+    long fileLength = file.length();
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if (fileLength < 4 || in.readInt() != magic) {
+        return -1;
+      }
+
+      long length = 4;
+      int frameLength = readFrame(in, fileLength - length, header);
+      if (frameLength < 0) {
+        return -1;
+      }
+
+      length += frameLength;
+      while ((frameLength = readFrame(in, fileLength - length, record)) >= 0) {
+        length += frameLength;
+      }
+      return length;
+    }
+  }
+
+  /** Opens given journal file to append records after given length, dropping rest of the file. */
+  public static JournalFile open(File file, long length) throws IOException {
+    FileOutputStream out = new FileOutputStream(file, true);
+    try {
+      if (out.getChannel().size() > length) {
+        // Drop torn or corrupt tail, so that new records are appended after last intact record.
+        out.getChannel().truncate(length);
+      }
+      return new JournalFile(file, out);
+    } catch (IOException e) {
+      out.close();
+      throw e;
+    }
+  }
+
+  /** Appends given record and syncs it to disk. */
+  public synchronized void append(Writer record) throws IOException {
+    out.write(frame(record));
+    out.flush();
+    out.getFD().sync();
+  }
+
+  /** Closes the journal keeping its file. */
+  public synchronized void close() throws IOException {
+    out.close();
+  }
+
+  /** Closes and removes journal file. */
+  public synchronized void delete() throws IOException {
+    out.close();
+    if (file.exists() && !file.delete()) {
+      throw new IOException("unable to delete journal " + file);
+    }
+  }
+
+  private static byte[] frame(Writer writer) throws IOException {
+    ByteArrayOutputStream payload = new ByteArrayOutputStream();
+    DataOutputStream dos = new DataOutputStream(payload);
+    writer.write(dos);
+    dos.flush();
+
+    byte[] bytes = payload.toByteArray();
+    CRC32 crc = new CRC32();
+    crc.update(bytes, 0, bytes.length);
+
+    ByteArrayOutputStream framed = new ByteArrayOutputStream(bytes.length + FRAME_OVERHEAD);
+    dos = new DataOutputStream(framed);
+    dos.writeInt(bytes.length);
+    dos.write(bytes);
+    dos.writeInt((int) crc.getValue());
+    dos.flush();
+    return framed.toByteArray();
+  }
+
+  /**
+   * Reads next frame of given stream, having given number of bytes left, by given reader. Returns
+   * length of the frame, or -1 if it is torn, fails CRC check or the reader fails to parse its
+   * payload.
+   */
+  private static int readFrame(DataInputStream in, long available, Reader reader)
+      throws IOException {
+    if (available < FRAME_OVERHEAD) {
+      return -1;
+    }
+
+    int length = in.readInt();
+    if (length < 0 || length > available - FRAME_OVERHEAD) {
+      // Length is torn or corrupt; do not allocate a buffer for it.
+      return -1;
+    }
+
+    byte[] payload = new byte[length];
+    in.readFully(payload);
+    CRC32 crc = new CRC32();
+    crc.update(payload, 0, length);
+    if ((int) crc.getValue() != in.readInt()) {
+      return -1;
+    }
+
+    try {
+      reader.read(new DataInputStream(new ByteArrayInputStream(payload)));
+    } catch (IOException e) {
+      return -1;
+    }
+
+    return length + FRAME_OVERHEAD;
+  }
+}
@@ -30,6 +30,9 @@ public class ListObjectsArgs extends BucketArgs {
   private boolean recursive;
   private boolean useApiVersion1;
   private boolean includeVersions;
+  private int prefetchPages;
+  private int parallelPartitions = 1;
+  private boolean unordered;
 
   public String delimiter() {
     if (recursive) {
@@ -91,6 +94,21 @@ public class ListObjectsArgs extends BucketArgs {
     return includeVersions;
   }
 
+  /** Gets number of listing pages fetched ahead in background. */
+  public int prefetchPages() {
+    return prefetchPages;
+  }
+
+  /** Gets number of keyspace partitions listed concurrently. */
+  public int parallelPartitions() {
+    return parallelPartitions;
+  }
+
+  /** Gets whether objects of partitioned listing are returned as soon as listed. */
+  public boolean unordered() {
+    return unordered;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -113,6 +131,18 @@ public class ListObjectsArgs extends BucketArgs {
         throw new IllegalArgumentException(
             "version ID marker is not supported for list objects version 1");
       }
+
+      if (args.parallelPartitions() > 1) {
+        if (!args.recursive()
+            || args.useApiVersion1()
+            || args.includeVersions()
+            || args.versionIdMarker() != null
+            || args.continuationToken() != null) {
+          throw new IllegalArgumentException(
+              "parallel partitions are supported only for recursive list objects version 2"
+                  + " without continuation token");
+        }
+      }
     }
 
     public Builder delimiter(String delimiter) {
@@ -191,5 +221,48 @@ public class ListObjectsArgs extends BucketArgs {
       operations.add(args -> args.includeVersions = includeVersions);
       return this;
     }
+
+    /**
+     * Sets number of listing pages to fetch ahead in background. Next page is requested as soon as
+     * its previous page is received, while the caller reads earlier pages, so that listing does not
+     * wait for a round trip at every page. Default is zero i.e. a page is fetched when the caller
+     * has read all of the previous page.
+     */
+    public Builder prefetchPages(int prefetchPages) {
+      if (prefetchPages < 0) {
+        throw new IllegalArgumentException("prefetch pages must not be negative");
+      }
+
+      operations.add(args -> args.prefetchPages = prefetchPages);
+      return this;
+    }
+
+    /**
+     * Sets number of keyspace partitions listed concurrently in recursive listing. Partition
+     * boundaries are discovered from common prefixes of the top level of the prefix and from
+     * first objects after sampled split points; every partition is listed by its own chain of
+     * pages, each with up to prefetch pages (at least one) fetched ahead. Like sequential listing,
+     * pages are requested with URL encoding type unless {@link #useUrlEncodingType(boolean)} is
+     * false, and object names are returned as listed; names are decoded only to compare them with
+     * partition boundaries. Default is one i.e. no partitioning.
+     */
+    public Builder parallelPartitions(int parallelPartitions) {
+      if (parallelPartitions < 1) {
+        throw new IllegalArgumentException("parallel partitions must be greater than zero");
+      }
+
+      operations.add(args -> args.parallelPartitions = parallelPartitions);
+      return this;
+    }
+
+    /**
+     * Sets whether objects of partitioned listing are returned in no particular order as soon as
+     * any partition lists them. Default is false i.e. objects are returned in lexicographic order,
+     * partition after partition, and a partition is read ahead only up to its prefetch pages.
+     */
+    public Builder unordered(boolean unordered) {
+      operations.add(args -> args.unordered = unordered);
+      return this;
+    }
   }
 }
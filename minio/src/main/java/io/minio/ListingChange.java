@@ -0,0 +1,58 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import io.minio.messages.Item;
+
+/** Difference of an object between two {@link ListingSnapshot}s. */
+public class ListingChange {
+  /** Type of change. */
+  public enum Type {
+    ADDED,
+    REMOVED,
+    CHANGED
+  }
+
+  private final Type type;
+  private final Item previous;
+  private final Item current;
+
+  ListingChange(Type type, Item previous, Item current) {
+    this.type = type;
+    this.previous = previous;
+    this.current = current;
+  }
+
+  public Type type() {
+    return type;
+  }
+
+  /** Returns object name. */
+  public String objectName() {
+    return (current != null) ? current.objectName() : previous.objectName();
+  }
+
+  /** Returns item in previous snapshot; null if the object is added. */
+  public Item previous() {
+    return previous;
+  }
+
+  /** Returns item in current snapshot; null if the object is removed. */
+  public Item current() {
+    return current;
+  }
+}
@@ -0,0 +1,842 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import org.joda.time.DateTime;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import io.minio.errors.ErrorResponseException;
+import io.minio.errors.InsufficientDataException;
+import io.minio.errors.InternalException;
+import io.minio.errors.InvalidBucketNameException;
+import io.minio.errors.InvalidResponseException;
+import io.minio.errors.ServerException;
+import io.minio.errors.XmlParserException;
+import io.minio.messages.Item;
+import io.minio.messages.Owner;
+
+/**
+ * Compact columnar listing of objects i.e. object name, size, last modified time, ETag and storage
+ * class of listed items, for code holding a whole listing in memory. Object names are front-coded
+ * against previous name with a restart at every {@value #BLOCK_SIZE} names; sizes and last
+ * modified times are kept in primitive arrays; hexadecimal ETags are kept as their bytes and
+ * storage classes as index of an interned table. Owner, user metadata and version of items are not
+ * kept.
+ *
+ * <p>Items are handed out as flyweight views reading the columns. Items should be added in listing
+ * order i.e. ascending object names; names are then looked up by binary search, else by scan. A
+ * snapshot is not safe for adding items concurrently, but is safe for concurrent reads.
+ *
+ * <pre>Example:{@code
+ * ListingSnapshot snapshot =
+ *     ListingSnapshot.of(
+ *         minioClient.listObjects(
+ *             ListObjectsArgs.builder().bucket("my-bucketname").recursive(true).build()));
+ * for (Item item : snapshot) {
+ *   System.out.println(item.objectName() + ", " + item.size());
+ * }
+ * }</pre>
+ */
+public class ListingSnapshot implements Iterable<Item> {
+  static final int BLOCK_SIZE = 16;
+  private static final int INITIAL_CAPACITY = 64;
+
+  // ETag encoding flags.
+  private static final int ETAG_NULL = 0;
+  private static final int ETAG_PRESENT = 1;
+  private static final int ETAG_QUOTED = 2;
+  private static final int ETAG_HEX = 4;
+  private static final int ETAG_PARTS = 8;
+
+  private int count;
+  private byte[] keyData = new byte[INITIAL_CAPACITY * 8];
+  private int keyDataLength;
+  private int[] blockOffsets = new int[INITIAL_CAPACITY / BLOCK_SIZE];
+  private byte[] lastKey = new byte[0];
+  private int maxKeyLength;
+  private long[] sizes = new long[INITIAL_CAPACITY];
+  private long[] lastModifiedTimes = new long[INITIAL_CAPACITY];
+  private byte[] etagData = new byte[INITIAL_CAPACITY * 8];
+  private int etagDataLength;
+  private int[] etagOffsets = new int[INITIAL_CAPACITY];
+  private byte[] storageClassIndexes = new byte[INITIAL_CAPACITY];
+  // interned storage classes; index zero is no storage class.
+  private final List<String> storageClasses = new ArrayList<>();
+  private final BitSet dirs = new BitSet();
+  private boolean sorted = true;
+
+  public ListingSnapshot() {
+    storageClasses.add(null);
+  }
+
+  /** Returns snapshot of all items of given listing; error of the listing is thrown. */
+  public static ListingSnapshot of(Iterable<Result<Item>> results)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, JsonMappingException, JsonParseException,
+          NoSuchAlgorithmException, ServerException, XmlParserException {
+    ListingSnapshot snapshot = new ListingSnapshot();
+    for (Result<Item> result : results) {
+      snapshot.add(result.get());
+    }
+    snapshot.trimToSize();
+    return snapshot;
+  }
+
+  /** Returns number of items. */
+  public int size() {
+    return count;
+  }
+
+  /** Returns whether items are added in ascending order of object names. */
+  public boolean isSorted() {
+    return sorted;
+  }
+
+  /** Appends given item. */
+  public void add(Item item) {
+    add(item, item.objectName());
+  }
+
+  /** Appends given item having given object name e.g. decoded name of URL encoded listing. */
+  void add(Item item, String objectName) {
+    String etag = item.isDir() ? null : item.etag();
+    long lastModified = 0;
+    if (!item.isDir() && item.lastModified() != null) {
+      lastModified = item.lastModified().getMillis();
+    }
+    add(
+        objectName,
+        item.isDir() ? 0 : item.size(),
+        lastModified,
+        etag,
+        item.isDir() ? null : item.storageClass(),
+        item.isDir());
+  }
+
+  /** Appends item of given values. */
+  void add(
+      String objectName,
+      long size,
+      long lastModified,
+      String etag,
+      String storageClass,
+      boolean isDir) {
+    int index = count;
+    ensureCapacity(index + 1);
+
+    byte[] key = objectName.getBytes(StandardCharsets.UTF_8);
+    int shared = 0;
+    if (index % BLOCK_SIZE == 0) {
+      blockOffsets[index / BLOCK_SIZE] = keyDataLength;
+    } else {
+      int limit = Math.min(key.length, lastKey.length);
+      while (shared < limit && key[shared] == lastKey[shared]) {
+        shared++;
+      }
+    }
+    if (sorted && index > 0 && compare(key, lastKey) <= 0) {
+      sorted = false;
+    }
+    keyDataLength = writeVarInt(keyData, keyDataLength, shared);
+    keyDataLength = writeVarInt(keyData, keyDataLength, key.length - shared);
+    keyData = grow(keyData, keyDataLength + key.length - shared);
+    System.arraycopy(key, shared, keyData, keyDataLength, key.length - shared);
+    keyDataLength += key.length - shared;
+    lastKey = key;
+    maxKeyLength = Math.max(maxKeyLength, key.length);
+
+    sizes[index] = size;
+    lastModifiedTimes[index] = lastModified;
+    etagOffsets[index] = etagDataLength;
+    writeEtag(etag);
+    storageClassIndexes[index] = (byte) storageClassIndex(storageClass);
+    if (isDir) {
+      dirs.set(index);
+    }
+    count++;
+  }
+
+  /**
+   * Returns snapshot stored in given file by {@link MinioClient#snapshotObjects}. The file must
+   * hold a complete listing i.e. an interrupted listing must be resumed first.
+   */
+  public static ListingSnapshot read(File file) throws IOException {
+    ListingSnapshotFile.Checkpoint checkpoint = ListingSnapshotFile.read(file);
+    if (!checkpoint.complete()) {
+      throw new IOException(file + ": listing snapshot is not complete");
+    }
+    return checkpoint.snapshot();
+  }
+
+  /**
+   * Returns differences from given previous snapshot to given current snapshot in object name
+   * order. Objects only in previous snapshot are removed, objects only in current snapshot are
+   * added, and objects in both with different ETag or size are changed. Changes are found lazily
+   * while iterating; both snapshots must be sorted.
+   */
+  public static Iterable<ListingChange> diff(ListingSnapshot previous, ListingSnapshot current) {
+    if (!previous.isSorted() || !current.isSorted()) {
+      throw new IllegalArgumentException("snapshots must be sorted by object name");
+    }
+
+    return new Iterable<ListingChange>() {
+      @Override
+      public Iterator<ListingChange> iterator() {
+        return new DiffIterator(previous.iterator(), current.iterator());
+      }
+    };
+  }
+
+  /** Returns item at given index as a view of this snapshot. */
+  public Item get(int index) {
+    checkIndex(index);
+    return new View(index, null);
+  }
+
+  /** Returns object name at given index. */
+  public String objectName(int index) {
+    checkIndex(index);
+    byte[] key = new byte[maxKeyLength];
+    int position = blockOffsets[index / BLOCK_SIZE];
+    int length = 0;
+    for (int i = index - index % BLOCK_SIZE; i <= index; i++) {
+      long entry = readKey(position, key);
+      position = (int) (entry >>> 32);
+      length = (int) entry;
+    }
+    return new String(key, 0, length, StandardCharsets.UTF_8);
+  }
+
+  /** Returns object size at given index. */
+  public long objectSize(int index) {
+    checkIndex(index);
+    return sizes[index];
+  }
+
+  /** Returns last modified time in milliseconds at given index. */
+  public long lastModifiedMillis(int index) {
+    checkIndex(index);
+    return lastModifiedTimes[index];
+  }
+
+  /** Returns ETag at given index. */
+  public String etag(int index) {
+    checkIndex(index);
+    return readEtag(etagOffsets[index]);
+  }
+
+  /** Returns storage class at given index. */
+  public String storageClass(int index) {
+    checkIndex(index);
+    return storageClasses.get(storageClassIndexes[index] & 0xff);
+  }
+
+  /** Returns whether item at given index is a directory i.e. common prefix. */
+  public boolean isDir(int index) {
+    checkIndex(index);
+    return dirs.get(index);
+  }
+
+  /** Returns index of given object name; -1 if not found. */
+  public int indexOf(String objectName) {
+    byte[] target = objectName.getBytes(StandardCharsets.UTF_8);
+    byte[] key = new byte[Math.max(maxKeyLength, target.length)];
+    int blocks = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    int low = 0;
+    int high = blocks - 1;
+    if (sorted) {
+      // Find last block whose first name is not greater than the target.
+      int block = -1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        int length = (int) readKey(blockOffsets[mid], key);
+        if (compare(key, length, target) <= 0) {
+          block = mid;
+          low = mid + 1;
+        } else {
+          high = mid - 1;
+        }
+      }
+      if (block < 0) {
+        return -1;
+      }
+      low = block;
+      high = block;
+    }
+
+    for (int block = low; block <= high; block++) {
+      int position = blockOffsets[block];
+      int end = Math.min(count, (block + 1) * BLOCK_SIZE);
+      for (int i = block * BLOCK_SIZE; i < end; i++) {
+        long entry = readKey(position, key);
+        position = (int) (entry >>> 32);
+        if (compare(key, (int) entry, target) == 0) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /** Returns estimated heap bytes of this snapshot. */
+  public long estimatedBytes() {
+    long bytes = 128L;
+    bytes += keyData.length + lastKey.length;
+    bytes += 4L * blockOffsets.length;
+    bytes += 8L * sizes.length + 8L * lastModifiedTimes.length;
+    bytes += etagData.length + 4L * etagOffsets.length;
+    bytes += storageClassIndexes.length;
+    bytes += dirs.size() / 8;
+    for (String storageClass : storageClasses) {
+      bytes += (storageClass == null) ? 0 : 40 + 2L * storageClass.length();
+    }
+    return bytes;
+  }
+
+  /** Trims columns to number of items. */
+  public void trimToSize() {
+    keyData = Arrays.copyOf(keyData, keyDataLength);
+    blockOffsets = Arrays.copyOf(blockOffsets, (count + BLOCK_SIZE - 1) / BLOCK_SIZE);
+    sizes = Arrays.copyOf(sizes, count);
+    lastModifiedTimes = Arrays.copyOf(lastModifiedTimes, count);
+    etagData = Arrays.copyOf(etagData, etagDataLength);
+    etagOffsets = Arrays.copyOf(etagOffsets, count);
+    storageClassIndexes = Arrays.copyOf(storageClassIndexes, count);
+  }
+
+  /** Returns iterator of items in order of addition; object names are decoded sequentially. */
+  @Override
+  public Iterator<Item> iterator() {
+    return new Iterator<Item>() {
+      private final byte[] key = new byte[maxKeyLength];
+      private int index;
+      private int position;
+
+      @Override
+      public boolean hasNext() {
+        return index < count;
+      }
+
+      @Override
+      public Item next() {
+        if (index >= count) {
+          throw new NoSuchElementException();
+        }
+
+        if (index % BLOCK_SIZE == 0) {
+          position = blockOffsets[index / BLOCK_SIZE];
+        }
+        long entry = readKey(position, key);
+        position = (int) (entry >>> 32);
+        return new View(index++, new String(key, 0, (int) entry, StandardCharsets.UTF_8));
+      }
+    };
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= count) {
+      throw new IndexOutOfBoundsException("index " + index + " out of " + count + " items");
+    }
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity > sizes.length) {
+      int newCapacity = Math.max(capacity, sizes.length + (sizes.length >> 1));
+      sizes = Arrays.copyOf(sizes, newCapacity);
+      lastModifiedTimes = Arrays.copyOf(lastModifiedTimes, newCapacity);
+      etagOffsets = Arrays.copyOf(etagOffsets, newCapacity);
+      storageClassIndexes = Arrays.copyOf(storageClassIndexes, newCapacity);
+    }
+    int blocks = (capacity + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    if (blocks > blockOffsets.length) {
+      blockOffsets = Arrays.copyOf(blockOffsets, Math.max(blocks, blockOffsets.length * 2));
+    }
+    keyData = grow(keyData, keyDataLength + 10);
+    etagData = grow(etagData, etagDataLength + 10);
+  }
+
+  private static byte[] grow(byte[] data, int capacity) {
+    if (capacity <= data.length) {
+      return data;
+    }
+    return Arrays.copyOf(data, Math.max(capacity, data.length + (data.length >> 1)));
+  }
+
+  /**
+   * Decodes front-coded key at given position into given buffer holding previous key. Returns
+   * position of next key in upper half and key length in lower half.
+   */
+  private long readKey(int position, byte[] key) {
+    long shared = readVarInt(keyData, position);
+    position = (int) (shared >>> 32);
+    long suffix = readVarInt(keyData, position);
+    position = (int) (suffix >>> 32);
+    int suffixLength = (int) suffix;
+    System.arraycopy(keyData, position, key, (int) shared, suffixLength);
+    return ((long) (position + suffixLength) << 32) | ((int) shared + suffixLength);
+  }
+
+  private int storageClassIndex(String storageClass) {
+    if (storageClass == null) {
+      return 0;
+    }
+
+    int index = storageClasses.indexOf(storageClass);
+    if (index < 0) {
+      if (storageClasses.size() > 0xff) {
+        throw new IllegalArgumentException("too many storage classes");
+      }
+      index = storageClasses.size();
+      storageClasses.add(storageClass);
+    }
+    return index;
+  }
+
+  /**
+   * Writes ETag as flags followed by data. Quoted lowercase hexadecimal ETag, optionally with part
+   * count suffix of multipart upload, is written as its bytes; any other ETag as UTF-8 string.
+   */
+  private void writeEtag(String etag) {
+    if (etag == null) {
+      etagData = grow(etagData, etagDataLength + 1);
+      etagData[etagDataLength++] = ETAG_NULL;
+      return;
+    }
+
+    int flags = ETAG_PRESENT;
+    String value = etag;
+    if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+      flags |= ETAG_QUOTED;
+      value = value.substring(1, value.length() - 1);
+    }
+
+    String hex = value;
+    long parts = 0;
+    int dash = value.lastIndexOf('-');
+    if (dash > 0 && isDecimal(value, dash + 1)) {
+      hex = value.substring(0, dash);
+      parts = Long.parseLong(value.substring(dash + 1));
+      flags |= ETAG_PARTS;
+    }
+
+    if (isHex(hex)) {
+      flags |= ETAG_HEX;
+      etagData = grow(etagData, etagDataLength + 1 + 5 + hex.length() / 2 + 10);
+      etagData[etagDataLength++] = (byte) flags;
+      etagDataLength = writeVarInt(etagData, etagDataLength, hex.length() / 2);
+      for (int i = 0; i < hex.length(); i += 2) {
+        etagData[etagDataLength++] = (byte) Integer.parseInt(hex.substring(i, i + 2), 16);
+      }
+      if ((flags & ETAG_PARTS) != 0) {
+        etagDataLength = writeVarLong(etagData, etagDataLength, parts);
+      }
+      return;
+    }
+
+    flags &= ~ETAG_PARTS;
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    etagData = grow(etagData, etagDataLength + 1 + 5 + bytes.length);
+    etagData[etagDataLength++] = (byte) flags;
+    etagDataLength = writeVarInt(etagData, etagDataLength, bytes.length);
+    System.arraycopy(bytes, 0, etagData, etagDataLength, bytes.length);
+    etagDataLength += bytes.length;
+  }
+
+  private String readEtag(int position) {
+    return decodeEtag(etagData, position);
+  }
+
+  private static String decodeEtag(byte[] etagData, int position) {
+    int flags = etagData[position++];
+    if (flags == ETAG_NULL) {
+      return null;
+    }
+
+    long length = readVarInt(etagData, position);
+    position = (int) (length >>> 32);
+    StringBuilder builder = new StringBuilder();
+    if ((flags & ETAG_QUOTED) != 0) {
+      builder.append('"');
+    }
+    if ((flags & ETAG_HEX) != 0) {
+      for (int i = 0; i < (int) length; i++) {
+        int b = etagData[position++] & 0xff;
+        builder.append(Character.forDigit(b >>> 4, 16)).append(Character.forDigit(b & 0xf, 16));
+      }
+      if ((flags & ETAG_PARTS) != 0) {
+        builder.append('-').append(readVarLong(etagData, position));
+      }
+    } else {
+      builder.append(new String(etagData, position, (int) length, StandardCharsets.UTF_8));
+    }
+    if ((flags & ETAG_QUOTED) != 0) {
+      builder.append('"');
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Writes items from given index up to given index to given stream. The storage class table
+   * comes first; object names are front-coded against previous name written and last modified
+   * times are written as difference to previous one.
+   */
+  void writeItems(DataOutputStream out, int from, int to) throws IOException {
+    writeVarLong(out, storageClasses.size() - 1);
+    for (int i = 1; i < storageClasses.size(); i++) {
+      out.writeUTF(storageClasses.get(i));
+    }
+    writeVarLong(out, to - from);
+
+    byte[] key = new byte[maxKeyLength];
+    byte[] previous = new byte[maxKeyLength];
+    int previousLength = 0;
+    long previousTime = 0;
+    if (from >= to) {
+      return;
+    }
+
+    int position = blockOffsets[from / BLOCK_SIZE];
+    for (int i = from - from % BLOCK_SIZE; i < to; i++) {
+      long entry = readKey(position, key);
+      position = (int) (entry >>> 32);
+      if (i < from) {
+        continue;
+      }
+
+      int length = (int) entry;
+      int shared = 0;
+      int limit = Math.min(length, previousLength);
+      while (shared < limit && key[shared] == previous[shared]) {
+        shared++;
+      }
+      writeVarLong(out, shared);
+      writeVarLong(out, length - shared);
+      out.write(key, shared, length - shared);
+      System.arraycopy(key, 0, previous, 0, length);
+      previousLength = length;
+
+      writeVarLong(out, sizes[i]);
+      long time = lastModifiedTimes[i];
+      long delta = time - previousTime;
+      writeVarLong(out, (delta << 1) ^ (delta >> 63));
+      previousTime = time;
+
+      int etagEnd = (i + 1 < count) ? etagOffsets[i + 1] : etagDataLength;
+      out.write(etagData, etagOffsets[i], etagEnd - etagOffsets[i]);
+      writeVarLong(out, ((storageClassIndexes[i] & 0xff) << 1) | (dirs.get(i) ? 1 : 0));
+    }
+  }
+
+  /** Reads items written by {@link #writeItems} from given stream and appends them. */
+  void readItems(DataInputStream in) throws IOException {
+    List<String> classes = new ArrayList<>();
+    classes.add(null);
+    for (long i = readVarLong(in); i > 0; i--) {
+      classes.add(in.readUTF());
+    }
+
+    byte[] key = new byte[0];
+    int length = 0;
+    long time = 0;
+    byte[] etag = new byte[64];
+    for (long i = readVarLong(in); i > 0; i--) {
+      int shared = (int) readVarLong(in);
+      int suffix = (int) readVarLong(in);
+      if (shared > length || suffix < 0) {
+        throw new IOException("corrupted listing snapshot");
+      }
+      key = grow(key, shared + suffix);
+      in.readFully(key, shared, suffix);
+      length = shared + suffix;
+
+      long size = readVarLong(in);
+      long delta = readVarLong(in);
+      time += (delta >>> 1) ^ -(delta & 1);
+
+      // Copy encoded ETag to decode it as stored in memory.
+      int etagLength = 0;
+      etag[etagLength++] = in.readByte();
+      if (etag[0] != ETAG_NULL) {
+        int dataLength = (int) readVarLong(in);
+        etag = grow(etag, 1 + 5 + dataLength + 10);
+        etagLength = writeVarInt(etag, etagLength, dataLength);
+        in.readFully(etag, etagLength, dataLength);
+        etagLength += dataLength;
+        if ((etag[0] & (ETAG_HEX | ETAG_PARTS)) == (ETAG_HEX | ETAG_PARTS)) {
+          writeVarLong(etag, etagLength, readVarLong(in));
+        }
+      }
+
+      int flags = (int) readVarLong(in);
+      int storageClass = flags >>> 1;
+      if (storageClass >= classes.size()) {
+        throw new IOException("corrupted listing snapshot");
+      }
+      add(
+          new String(key, 0, length, StandardCharsets.UTF_8),
+          size,
+          time,
+          decodeEtag(etag, 0),
+          classes.get(storageClass),
+          (flags & 1) != 0);
+    }
+  }
+
+  private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+    while ((value & ~0x7fL) != 0) {
+      out.writeByte((int) ((value & 0x7f) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  private static long readVarLong(DataInputStream in) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = in.readByte();
+      value |= (long) (b & 0x7f) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IOException("corrupted listing snapshot");
+  }
+
+  private static boolean isHex(String value) {
+    if (value.isEmpty() || value.length() % 2 != 0) {
+      return false;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isDecimal(String value, int start) {
+    int length = value.length() - start;
+    if (length < 1 || length > 18 || (value.charAt(start) == '0' && length > 1)) {
+      return false;
+    }
+    for (int i = start; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Compares given keys by unsigned bytes i.e. order of S3 listing. */
+  static int compare(byte[] a, byte[] b) {
+    return compare(a, a.length, b);
+  }
+
+  private static int compare(byte[] a, int aLength, byte[] b) {
+    int limit = Math.min(aLength, b.length);
+    for (int i = 0; i < limit; i++) {
+      int c = (a[i] & 0xff) - (b[i] & 0xff);
+      if (c != 0) {
+        return c;
+      }
+    }
+    return aLength - b.length;
+  }
+
+  private static int writeVarInt(byte[] data, int position, int value) {
+    return writeVarLong(data, position, value & 0xffffffffL);
+  }
+
+  private static int writeVarLong(byte[] data, int position, long value) {
+    while ((value & ~0x7fL) != 0) {
+      data[position++] = (byte) ((value & 0x7f) | 0x80);
+      value >>>= 7;
+    }
+    data[position++] = (byte) value;
+    return position;
+  }
+
+  /** Reads variable length integer at given position; returns next position in upper half. */
+  private static long readVarInt(byte[] data, int position) {
+    int value = 0;
+    for (int shift = 0; ; shift += 7) {
+      int b = data[position++];
+      value |= (b & 0x7f) << shift;
+      if (b >= 0) {
+        return ((long) position << 32) | (value & 0xffffffffL);
+      }
+    }
+  }
+
+  private static long readVarLong(byte[] data, int position) {
+    long value = 0;
+    for (int shift = 0; ; shift += 7) {
+      int b = data[position++];
+      value |= (long) (b & 0x7f) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+  }
+
+  /** Merge of two sorted item iterators giving differences of them. */
+  private static class DiffIterator implements Iterator<ListingChange> {
+    private final Iterator<Item> previousItems;
+    private final Iterator<Item> currentItems;
+    private Item previous;
+    private Item current;
+    private ListingChange next;
+
+    private DiffIterator(Iterator<Item> previousItems, Iterator<Item> currentItems) {
+      this.previousItems = previousItems;
+      this.currentItems = currentItems;
+      this.previous = previousItems.hasNext() ? previousItems.next() : null;
+      this.current = currentItems.hasNext() ? currentItems.next() : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (next == null && (previous != null || current != null)) {
+        int c;
+        if (previous == null) {
+          c = 1;
+        } else if (current == null) {
+          c = -1;
+        } else {
+          c = MinioClient.compareKeys(previous.objectName(), current.objectName());
+        }
+
+        if (c < 0) {
+          next = new ListingChange(ListingChange.Type.REMOVED, previous, null);
+          previous = previousItems.hasNext() ? previousItems.next() : null;
+        } else if (c > 0) {
+          next = new ListingChange(ListingChange.Type.ADDED, null, current);
+          current = currentItems.hasNext() ? currentItems.next() : null;
+        } else {
+          if (previous.size() != current.size()
+              || !Objects.equals(previous.etag(), current.etag())) {
+            next = new ListingChange(ListingChange.Type.CHANGED, previous, current);
+          }
+          previous = previousItems.hasNext() ? previousItems.next() : null;
+          current = currentItems.hasNext() ? currentItems.next() : null;
+        }
+      }
+      return next != null;
+    }
+
+    @Override
+    public ListingChange next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      ListingChange change = next;
+      next = null;
+      return change;
+    }
+  }
+
+  /** Flyweight item reading columns of the snapshot at its index. */
+  private class View extends Item {
+    private final int index;
+    private String objectName;
+
+    private View(int index, String objectName) {
+      this.index = index;
+      this.objectName = objectName;
+    }
+
+    @Override
+    public String objectName() {
+      if (objectName == null) {
+        objectName = ListingSnapshot.this.objectName(index);
+      }
+      return objectName;
+    }
+
+    @Override
+    public DateTime lastModified() {
+      return dirs.get(index) ? null : new DateTime(lastModifiedTimes[index], Time.UTC);
+    }
+
+    @Override
+    public String etag() {
+      return readEtag(etagOffsets[index]);
+    }
+
+    @Override
+    public long size() {
+      return sizes[index];
+    }
+
+    @Override
+    public String storageClass() {
+      return storageClasses.get(storageClassIndexes[index] & 0xff);
+    }
+
+    @Override
+    public Owner owner() {
+      return null;
+    }
+
+    @Override
+    public Map<String, String> userMetadata() {
+      return null;
+    }
+
+    @Override
+    public boolean isLatest() {
+      return false;
+    }
+
+    @Override
+    public String versionId() {
+      return null;
+    }
+
+    @Override
+    public boolean isDir() {
+      return dirs.get(index);
+    }
+
+    @Override
+    public boolean isDeleteMarker() {
+      return false;
+    }
+  }
+}
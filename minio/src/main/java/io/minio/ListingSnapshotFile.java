@@ -0,0 +1,163 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Append-only file of a {@link ListingSnapshot} being listed, framed by {@link JournalFile}. The
+ * header holds bucket and prefix of the listing; every checkpoint appends a chunk of objects listed
+ * since previous checkpoint along with continuation token of next listing page, and the last chunk
+ * is flagged as such. A chunk partially written by an interrupted listing is dropped, and the
+ * listing resumes from the continuation token of the last whole chunk.
+ *
+ * <pre>
+ * header := bucket prefix
+ * chunk  := flags token? items
+ * </pre>
+ */
+class ListingSnapshotFile implements AutoCloseable {
+  private static final int MAGIC = 0x4d4c5332; // "MLS2"
+  private static final int LAST_CHUNK = 1;
+  private static final int HAS_TOKEN = 2;
+
+  private final JournalFile journalFile;
+
+  /** Contents of a snapshot file. */
+  static class Checkpoint {
+    private final String bucketName;
+    private final String prefix;
+    private final ListingSnapshot snapshot;
+    private final String continuationToken;
+    private final boolean complete;
+    private final long length;
+
+    private Checkpoint(
+        String bucketName,
+        String prefix,
+        ListingSnapshot snapshot,
+        String continuationToken,
+        boolean complete,
+        long length) {
+      this.bucketName = bucketName;
+      this.prefix = prefix;
+      this.snapshot = snapshot;
+      this.continuationToken = continuationToken;
+      this.complete = complete;
+      this.length = length;
+    }
+
+    String bucketName() {
+      return bucketName;
+    }
+
+    String prefix() {
+      return prefix;
+    }
+
+    ListingSnapshot snapshot() {
+      return snapshot;
+    }
+
+    /** Returns continuation token of next listing page; null if listing is at its start. */
+    String continuationToken() {
+      return continuationToken;
+    }
+
+    boolean complete() {
+      return complete;
+    }
+  }
+
+  private ListingSnapshotFile(JournalFile journalFile) {
+    this.journalFile = journalFile;
+  }
+
+  /** Creates snapshot file of given listing, replacing existing file. */
+  static ListingSnapshotFile create(File file, String bucketName, String prefix)
+      throws IOException {
+    return new ListingSnapshotFile(
+        JournalFile.create(
+            file,
+            MAGIC,
+            out -> {
+              out.writeUTF(bucketName);
+              out.writeUTF(prefix);
+            }));
+  }
+
+  /** Opens given incomplete snapshot file to append chunks after its last whole chunk. */
+  static ListingSnapshotFile append(File file, Checkpoint checkpoint) throws IOException {
+    return new ListingSnapshotFile(JournalFile.open(file, checkpoint.length));
+  }
+
+  /** Reads whole chunks of given snapshot file. */
+  static Checkpoint read(File file) throws IOException {
+    String[] header = new String[2];
+    ListingSnapshot snapshot = new ListingSnapshot();
+    String[] continuationToken = new String[1];
+    boolean[] complete = new boolean[1];
+    long length =
+        JournalFile.read(
+            file,
+            MAGIC,
+            in -> {
+              header[0] = in.readUTF();
+              header[1] = in.readUTF();
+            },
+            in -> {
+              if (complete[0]) {
+                throw new IOException("chunk after last chunk");
+              }
+
+              int flags = in.readByte();
+              String token = ((flags & HAS_TOKEN) != 0) ? in.readUTF() : null;
+              snapshot.readItems(in);
+              continuationToken[0] = token;
+              complete[0] = (flags & LAST_CHUNK) != 0;
+            });
+    if (length < 0) {
+      throw new IOException(file + ": not a listing snapshot");
+    }
+
+    snapshot.trimToSize();
+    return new Checkpoint(
+        header[0], header[1], snapshot, continuationToken[0], complete[0], length);
+  }
+
+  /**
+   * Appends objects of given snapshot from given index with continuation token of next listing
+   * page, and syncs them to disk; null token means the listing is complete.
+   */
+  void checkpoint(ListingSnapshot snapshot, int from, String continuationToken)
+      throws IOException {
+    journalFile.append(
+        out -> {
+          out.writeByte((continuationToken == null) ? LAST_CHUNK : HAS_TOKEN);
+          if (continuationToken != null) {
+            out.writeUTF(continuationToken);
+          }
+          snapshot.writeItems(out, from, snapshot.size());
+        });
+  }
+
+  @Override
+  public void close() throws IOException {
+    journalFile.close();
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Budget of memory buffered by concurrent transfers of {@link MinioClient}. Upload and download
+ * paths reserve the size of their buffers before allocating them; reservations which do not fit
+ * wait in first-come first-served order until enough memory is released. A reservation bigger
+ * than the whole budget is reduced to the budget, i.e. it waits until no other memory is reserved.
+ *
+ * <pre>Example:{@code
+ * MinioClient minioClient =
+ *     MinioClient.builder()
+ *         .endpoint("https://play.min.io")
+ *         .credentials("Q3AM3UQ867SPQQA43P2F", "zuf+tfteSlswRu7BJ86wekitnifILbZam1KYY3TG")
+ *         .memoryBudget(new MemoryBudget(256L * 1024 * 1024))
+ *         .build();
+ * }</pre>
+ */
+public class MemoryBudget {
+  private final long maxBytes;
+  private final Queue<Object> waiters = new ArrayDeque<>();
+  private long reservedBytes;
+  private long waits;
+
+  /** Creates memory budget of given bytes. */
+  public MemoryBudget(long maxBytes) {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("memory budget must be greater than zero");
+    }
+
+    this.maxBytes = maxBytes;
+  }
+
+  public long maxBytes() {
+    return maxBytes;
+  }
+
+  /** Returns currently reserved bytes. */
+  public synchronized long reservedBytes() {
+    return reservedBytes;
+  }
+
+  /** Returns number of reservations which had to wait. */
+  public synchronized long waits() {
+    return waits;
+  }
+
+  /** Reserves given bytes, waiting until they fit into the budget. */
+  public void reserve(long bytes) throws InterruptedException {
+    bytes = Math.min(bytes, maxBytes);
+    synchronized (this) {
+      if (waiters.isEmpty() && reservedBytes + bytes <= maxBytes) {
+        reservedBytes += bytes;
+        return;
+      }
+
+      Object waiter = new Object();
+      waiters.add(waiter);
+      waits++;
+      try {
+        while (waiters.peek() != waiter || reservedBytes + bytes > maxBytes) {
+          wait();
+        }
+        reservedBytes += bytes;
+      } finally {
+        waiters.remove(waiter);
+        notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Reserves given bytes if they fit into the budget without waiting and no other reservation is
+   * waiting. Returns whether the bytes are reserved.
+   */
+  public synchronized boolean tryReserve(long bytes) {
+    bytes = Math.min(bytes, maxBytes);
+    if (waiters.isEmpty() && reservedBytes + bytes <= maxBytes) {
+      reservedBytes += bytes;
+      return true;
+    }
+    return false;
+  }
+
+  /** Releases given bytes reserved earlier. */
+  public synchronized void release(long bytes) {
+    bytes = Math.min(bytes, maxBytes);
+    reservedBytes -= bytes;
+    notifyAll();
+  }
+}
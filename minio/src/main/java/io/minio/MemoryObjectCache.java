@@ -0,0 +1,345 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Headers;
+
+/**
+ * In-memory cache of small objects read by {@link MinioClient#getObject(GetObjectArgs)}, so that
+ * repeated reads of hot objects make no request. Objects up to given size are cached by bucket,
+ * object and version ID with their response headers, and expire after given time-to-live or after
+ * max-age of their Cache-Control metadata; objects with no-store or no-cache Cache-Control are not
+ * cached.
+ *
+ * <p>The cache is split into independently locked segments by key hash. Each segment keeps its
+ * objects in least recently used order and estimates how often keys are read by a small counting
+ * sketch, whose counters are halved periodically so that old popularity fades. When a segment is
+ * full, a new object is admitted only if it is read more often than every object it would evict
+ * (TinyLFU admission), i.e. a scan of objects read once does not evict the hot set. Objects
+ * fetched by {@link MinioClient#prefetchObjects(PrefetchObjectsArgs)} are always admitted.
+ *
+ * <pre>Example:{@code
+ * MinioClient minioClient =
+ *     MinioClient.builder()
+ *         .endpoint("https://play.min.io")
+ *         .credentials("Q3AM3UQ867SPQQA43P2F", "zuf+tfteSlswRu7BJ86wekitnifILbZam1KYY3TG")
+ *         .memoryObjectCache(
+ *             new MemoryObjectCache(64L * 1024 * 1024, 256 * 1024, 10, TimeUnit.MINUTES))
+ *         .build();
+ * }</pre>
+ */
+public class MemoryObjectCache {
+  private static final int SEGMENTS = 16;
+  private static final int MIN_SKETCH_WIDTH = 64;
+  private static final int MAX_SKETCH_WIDTH = 16 * 1024;
+  // sketch width is estimated by an average object size of 4KiB.
+  private static final int ESTIMATED_OBJECT_SIZE = 4 * 1024;
+
+  private final long maxBytes;
+  private final int maxObjectSize;
+  private final long ttlMillis;
+  private final Segment[] segments = new Segment[SEGMENTS];
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong rejections = new AtomicLong();
+
+  /** Cached object. */
+  static class Entry {
+    private final Headers headers;
+    private final byte[] data;
+    private final long expiryTime;
+
+    private Entry(Headers headers, byte[] data, long expiryTime) {
+      this.headers = headers;
+      this.data = data;
+      this.expiryTime = expiryTime;
+    }
+
+    Headers headers() {
+      return headers;
+    }
+
+    byte[] data() {
+      return data;
+    }
+  }
+
+  /** Segment of the cache guarded by its own lock. */
+  private static class Segment {
+    // entries in access order i.e. least recently used entry first.
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private final long maxBytes;
+    private long bytes;
+
+    private Segment(long maxBytes, int sketchWidth) {
+      this.maxBytes = maxBytes;
+      this.sketch = new FrequencySketch(sketchWidth);
+    }
+  }
+
+  /**
+   * Creates cache of given bytes holding objects up to given size, each for given time-to-live
+   * unless Cache-Control of the object says otherwise.
+   */
+  public MemoryObjectCache(long maxBytes, int maxObjectSize, long ttl, TimeUnit unit) {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("cache size must be greater than zero");
+    }
+    if (maxObjectSize <= 0) {
+      throw new IllegalArgumentException("max object size must be greater than zero");
+    }
+    if (ttl <= 0) {
+      throw new IllegalArgumentException("time-to-live must be greater than zero");
+    }
+
+    long segmentBytes = Math.max(maxBytes / SEGMENTS, 1);
+    if (maxObjectSize > segmentBytes) {
+      throw new IllegalArgumentException(
+          "max object size must not be greater than 1/" + SEGMENTS + " of cache size");
+    }
+
+    this.maxBytes = maxBytes;
+    this.maxObjectSize = maxObjectSize;
+    this.ttlMillis = unit.toMillis(ttl);
+    long estimatedObjects = segmentBytes / ESTIMATED_OBJECT_SIZE;
+    int sketchWidth = MIN_SKETCH_WIDTH;
+    while (sketchWidth < estimatedObjects && sketchWidth < MAX_SKETCH_WIDTH) {
+      sketchWidth <<= 1;
+    }
+    for (int i = 0; i < SEGMENTS; i++) {
+      segments[i] = new Segment(segmentBytes, sketchWidth);
+    }
+  }
+
+  public long maxBytes() {
+    return maxBytes;
+  }
+
+  public int maxObjectSize() {
+    return maxObjectSize;
+  }
+
+  /** Returns bytes of cached object data. */
+  public long bytes() {
+    long bytes = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        bytes += segment.bytes;
+      }
+    }
+    return bytes;
+  }
+
+  /** Returns number of reads served from the cache. */
+  public long hits() {
+    return hits.get();
+  }
+
+  /** Returns number of reads not served from the cache. */
+  public long misses() {
+    return misses.get();
+  }
+
+  /** Returns number of objects not admitted as they are read less often than objects cached. */
+  public long rejections() {
+    return rejections.get();
+  }
+
+  /** Removes all cached objects. */
+  public void clear() {
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        segment.entries.clear();
+        segment.bytes = 0;
+      }
+    }
+  }
+
+  /** Returns unexpired entry of given key and records the read of the key; null if not cached. */
+  Entry get(String key) {
+    int hash = spread(key.hashCode());
+    Segment segment = segmentOf(hash);
+    synchronized (segment) {
+      segment.sketch.increment(hash);
+      Entry entry = segment.entries.get(key);
+      if (entry != null && entry.expiryTime <= System.currentTimeMillis()) {
+        segment.entries.remove(key);
+        segment.bytes -= entry.data.length;
+        entry = null;
+      }
+
+      if (entry == null) {
+        misses.incrementAndGet();
+      } else {
+        hits.incrementAndGet();
+      }
+      return entry;
+    }
+  }
+
+  /**
+   * Offers object data of given key to the cache. Unless forced, the object is admitted only if its
+   * key is read more often than keys of every object to be evicted for it. Returns whether the
+   * object is cached.
+   */
+  boolean put(String key, Headers headers, byte[] data, boolean force) {
+    if (data.length > maxObjectSize) {
+      return false;
+    }
+
+    long ttl = ttlMillis;
+    String cacheControl = headers.get("Cache-Control");
+    if (cacheControl != null) {
+      for (String directive : cacheControl.toLowerCase(Locale.US).split(",")) {
+        directive = directive.trim();
+        if (directive.equals("no-store") || directive.equals("no-cache")) {
+          return false;
+        }
+        if (directive.startsWith("max-age=")) {
+          try {
+            ttl = TimeUnit.SECONDS.toMillis(Long.parseLong(directive.substring(8).trim()));
+          } catch (NumberFormatException e) {
+            // Invalid max-age is ignored.
+          }
+        }
+      }
+    }
+    if (ttl <= 0) {
+      return false;
+    }
+
+    int hash = spread(key.hashCode());
+    Segment segment = segmentOf(hash);
+    Entry entry = new Entry(headers, data, System.currentTimeMillis() + ttl);
+    synchronized (segment) {
+      Entry previous = segment.entries.remove(key);
+      if (previous != null) {
+        segment.bytes -= previous.data.length;
+      }
+
+      // Find victims in least recently used order to make room for the entry.
+      long needed = segment.bytes + data.length - segment.maxBytes;
+      List<String> victims = new ArrayList<>();
+      if (needed > 0) {
+        int frequency = segment.sketch.frequency(hash);
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Entry> candidate : segment.entries.entrySet()) {
+          if (needed <= 0) {
+            break;
+          }
+
+          Entry victim = candidate.getValue();
+          if (!force
+              && victim.expiryTime > now
+              && segment.sketch.frequency(spread(candidate.getKey().hashCode())) >= frequency) {
+            rejections.incrementAndGet();
+            return false;
+          }
+          victims.add(candidate.getKey());
+          needed -= victim.data.length;
+        }
+      }
+
+      for (String victim : victims) {
+        segment.bytes -= segment.entries.remove(victim).data.length;
+      }
+      segment.entries.put(key, entry);
+      segment.bytes += data.length;
+      return true;
+    }
+  }
+
+  /** Returns whether unexpired object of given key is cached, without recording a read. */
+  boolean contains(String key) {
+    Segment segment = segmentOf(spread(key.hashCode()));
+    synchronized (segment) {
+      Entry entry = segment.entries.get(key);
+      return entry != null && entry.expiryTime > System.currentTimeMillis();
+    }
+  }
+
+  private Segment segmentOf(int hash) {
+    return segments[(hash >>> 28) & (SEGMENTS - 1)];
+  }
+
+  private static int spread(int hash) {
+    hash *= 0x9e3779b9;
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * Count-min sketch of 4-bit counters estimating read frequency of keys. After reads of ten times
+   * its width, all counters are halved.
+   */
+  static class FrequencySketch {
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x97cb3127, 0x5a2a7d1b, 0xc2b2ae35, 0x27d4eb2f};
+
+    private final byte[] table;
+    private final int width;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int width) {
+      this.width = width;
+      this.table = new byte[DEPTH * width];
+      this.sampleSize = 10 * width;
+    }
+
+    void increment(int hash) {
+      boolean added = false;
+      for (int i = 0; i < DEPTH; i++) {
+        int index = i * width + indexOf(hash, i);
+        if (table[index] < MAX_COUNT) {
+          table[index]++;
+          added = true;
+        }
+      }
+
+      if (added && ++additions >= sampleSize) {
+        for (int i = 0; i < table.length; i++) {
+          table[i] >>>= 1;
+        }
+        additions /= 2;
+      }
+    }
+
+    int frequency(int hash) {
+      int frequency = MAX_COUNT;
+      for (int i = 0; i < DEPTH; i++) {
+        frequency = Math.min(frequency, table[i * width + indexOf(hash, i)]);
+      }
+      return frequency;
+    }
+
+    private int indexOf(int hash, int i) {
+      int h = (hash ^ SEEDS[i]) * 0x85ebca6b;
+      h ^= h >>> 13;
+      return h & (width - 1);
+    }
+  }
+}
@@ -28,19 +28,32 @@ import com.google.common.base.Strings;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 import org.joda.time.DateTime;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.RandomAccessFile;
+import java.io.UnsupportedEncodingException;
 import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
 import java.security.KeyManagementException;
@@ -50,18 +63,34 @@ import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Queue;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -92,6 +121,7 @@ import io.minio.http.Method;
 import io.minio.messages.Bucket;
 import io.minio.messages.CompleteMultipartUpload;
 import io.minio.messages.CompleteMultipartUploadOutput;
+import io.minio.messages.Contents;
 import io.minio.messages.CopyObjectResult;
 import io.minio.messages.CopyPartResult;
 import io.minio.messages.CreateBucketConfiguration;
@@ -111,6 +141,7 @@ import io.minio.messages.ListBucketResultV2;
 import io.minio.messages.ListMultipartUploadsResult;
 import io.minio.messages.ListObjectsResult;
 import io.minio.messages.ListPartsResult;
+import io.minio.messages.ListResultParser;
 import io.minio.messages.ListVersionsResult;
 import io.minio.messages.LocationConstraint;
 import io.minio.messages.NotificationConfiguration;
@@ -126,6 +157,7 @@ import io.minio.messages.Tags;
 import io.minio.messages.Upload;
 import io.minio.messages.VersioningConfiguration;
 import io.minio.org.apache.commons.validator.routines.InetAddressValidator;
+import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
@@ -133,6 +165,8 @@ import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.BufferedSink;
+import okio.BufferedSource;
 
 /**
  * Simple Storage Service (aka S3) client to perform bucket and object operations.
@@ -187,6 +221,14 @@ public class MinioClient {
   private static final int MAX_BUCKET_POLICY_SIZE = 12 * 1024;
   // default expiration for a presigned URL is 7 days in seconds
   private static final int DEFAULT_EXPIRY_TIME = 7 * 24 * 3600;
+  // buffer size of a range download is 64KiB
+  private static final int DOWNLOAD_BUFFER_SIZE = 64 * 1024;
+  // resumable download records its progress at every 4MiB of a range
+  private static final long DOWNLOAD_CHECKPOINT_SIZE = 4L * 1024 * 1024;
+  // split points of partitioned listing are sampled over printable ASCII characters.
+  private static final int SAMPLES_PER_PARTITION = 4;
+  private static final char FIRST_SAMPLE_CHAR = '!';
+  private static final char LAST_SAMPLE_CHAR = '~';
   private static final String DEFAULT_USER_AGENT =
       "MinIO ("
           + System.getProperty("os.arch")
@@ -232,9 +274,18 @@ public class MinioClient {
   private boolean isAcceleratedHost;
   private boolean isDualStackHost;
   private boolean useVirtualStyle;
+  private boolean streamingSignature;
   private String accessKey;
   private String secretKey;
   private OkHttpClient httpClient;
+  private ExecutorService executorService;
+  private BufferPool bufferPool;
+  private MemoryBudget memoryBudget;
+  private ObjectCache objectCache;
+  private MemoryObjectCache memoryObjectCache;
+  private RequestCoalescer requestCoalescer;
+  private String objectCacheScope;
+  private PartSizePlanner partSizePlanner = new PartSizePlanner();
 
   private MinioClient(
       HttpUrl baseUrl,
@@ -245,7 +296,13 @@ public class MinioClient {
       boolean useVirtualStyle,
       String accessKey,
       String secretKey,
-      OkHttpClient httpClient) {
+      OkHttpClient httpClient,
+      ExecutorService executorService,
+      BufferPool bufferPool,
+      MemoryBudget memoryBudget,
+      ObjectCache objectCache,
+      MemoryObjectCache memoryObjectCache,
+      RequestCoalescer requestCoalescer) {
     this.baseUrl = baseUrl;
     this.region = region;
     this.isAwsHost = isAwsHost;
@@ -255,6 +312,13 @@ public class MinioClient {
     this.accessKey = accessKey;
     this.secretKey = secretKey;
     this.httpClient = httpClient;
+    this.executorService = executorService;
+    this.bufferPool = bufferPool;
+    this.memoryBudget = memoryBudget;
+    this.objectCache = objectCache;
+    this.memoryObjectCache = memoryObjectCache;
+    this.requestCoalescer = requestCoalescer;
+    this.objectCacheScope = ObjectCache.scope(baseUrl.toString(), accessKey);
   }
 
   /** Remove this constructor when all deprecated contructors are removed. */
@@ -265,9 +329,18 @@ public class MinioClient {
     this.isAcceleratedHost = client.isAcceleratedHost;
     this.isDualStackHost = client.isDualStackHost;
     this.useVirtualStyle = client.useVirtualStyle;
+    this.streamingSignature = client.streamingSignature;
     this.accessKey = client.accessKey;
     this.secretKey = client.secretKey;
     this.httpClient = client.httpClient;
+    this.executorService = client.executorService;
+    this.bufferPool = client.bufferPool;
+    this.memoryBudget = client.memoryBudget;
+    this.objectCache = client.objectCache;
+    this.memoryObjectCache = client.memoryObjectCache;
+    this.requestCoalescer = client.requestCoalescer;
+    this.objectCacheScope = client.objectCacheScope;
+    this.partSizePlanner = client.partSizePlanner;
   }
 
   /**
@@ -818,7 +891,12 @@ public class MinioClient {
   }
 
   private Request createRequest(
-      HttpUrl url, Method method, Multimap<String, String> headerMap, Object body, int length)
+      HttpUrl url,
+      Method method,
+      Multimap<String, String> headerMap,
+      Object body,
+      int length,
+      PayloadPolicy payloadPolicy)
       throws IllegalArgumentException, InsufficientDataException, InternalException, IOException,
           NoSuchAlgorithmException {
     Request.Builder requestBuilder = new Request.Builder();
@@ -851,6 +929,16 @@ public class MinioClient {
       }
     }
 
+    PayloadPolicy.Type payloadType = (payloadPolicy != null) ? payloadPolicy.type() : null;
+    boolean awsChunked =
+        payloadType == PayloadPolicy.Type.STREAMING_SIGNATURE
+            || payloadType == PayloadPolicy.Type.CRC32C;
+    if (awsChunked) {
+      contentEncoding =
+          Strings.isNullOrEmpty(contentEncoding) ? "aws-chunked" : "aws-chunked," + contentEncoding;
+      requestBuilder.header("x-amz-decoded-content-length", Integer.toString(length));
+    }
+
     if (!Strings.isNullOrEmpty(contentEncoding)) {
       requestBuilder.header("Content-Encoding", contentEncoding);
     }
@@ -862,12 +950,39 @@ public class MinioClient {
 
     String sha256Hash = null;
     String md5Hash = null;
-    if (this.accessKey != null && this.secretKey != null) {
+    if (payloadType != null) {
+      switch (payloadType) {
+        case SHA256:
+          sha256Hash = Digest.sha256Hash(body, length, bufferPool);
+          break;
+        case UNSIGNED_PAYLOAD:
+          sha256Hash = "UNSIGNED-PAYLOAD";
+          break;
+        case PRECOMPUTED:
+          sha256Hash =
+              (payloadPolicy.sha256Hash() != null)
+                  ? payloadPolicy.sha256Hash()
+                  : "UNSIGNED-PAYLOAD";
+          md5Hash = payloadPolicy.md5Hash();
+          break;
+        case CRC32C:
+          // CRC32C of payload is computed while it is sent and sent in trailer.
+          sha256Hash = ChecksumTrailerRequestBody.STREAMING_UNSIGNED_PAYLOAD_TRAILER;
+          requestBuilder.header("x-amz-trailer", ChecksumTrailerRequestBody.TRAILER);
+          break;
+        case STREAMING_SIGNATURE:
+          // Payload is hashed and signed chunk by chunk while it is sent.
+          sha256Hash = ChunkSignedRequestBody.STREAMING_PAYLOAD;
+          break;
+        default:
+          throw new InternalException("unknown payload policy " + payloadType);
+      }
+    } else if (this.accessKey != null && this.secretKey != null) {
       if (url.isHttps()) {
         // Fix issue #415: No need to compute sha256 if endpoint scheme is HTTPS.
         sha256Hash = "UNSIGNED-PAYLOAD";
         if (body != null) {
-          md5Hash = Digest.md5Hash(body, length);
+          md5Hash = Digest.md5Hash(body, length, bufferPool);
         }
       } else {
         Object data = body;
@@ -877,14 +992,14 @@ public class MinioClient {
           len = 0;
         }
 
-        String[] hashes = Digest.sha256Md5Hashes(data, len);
+        String[] hashes = Digest.sha256Md5Hashes(data, len, bufferPool);
         sha256Hash = hashes[0];
         md5Hash = hashes[1];
       }
     } else {
       // Fix issue #567: Compute MD5 hash only for anonymous access.
       if (body != null) {
-        md5Hash = Digest.md5Hash(body, length);
+        md5Hash = Digest.md5Hash(body, length, bufferPool);
       }
     }
 
@@ -903,11 +1018,19 @@ public class MinioClient {
     if (body != null) {
       if (body instanceof RandomAccessFile) {
         requestBody = new HttpRequestBody((RandomAccessFile) body, length, contentType);
+      } else if (body instanceof FileRegion) {
+        requestBody = new HttpRequestBody((FileRegion) body, length, contentType);
       } else if (body instanceof BufferedInputStream) {
         requestBody = new HttpRequestBody((BufferedInputStream) body, length, contentType);
+      } else if (body instanceof ByteBuffer) {
+        requestBody = new HttpRequestBody((ByteBuffer) body, length, contentType);
       } else {
         requestBody = new HttpRequestBody((byte[]) body, length, contentType);
       }
+
+      if (payloadType == PayloadPolicy.Type.CRC32C) {
+        requestBody = new ChecksumTrailerRequestBody(requestBody);
+      }
     }
 
     requestBuilder.method(method.toString(), requestBody);
@@ -962,10 +1085,83 @@ public class MinioClient {
           InternalException, InvalidBucketNameException, InvalidKeyException,
           InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
           XmlParserException {
+    return execute(
+        method, bucketName, objectName, region, headerMap, queryParamMap, body, length, null);
+  }
+
+  /**
+   * Executes given request. Payload policy is of object data in body; if it is null, default
+   * integrity checks are done. If request coalescing is enabled, concurrent identical GET and HEAD
+   * requests share one in-flight call.
+   */
+  private Response execute(
+      Method method,
+      String bucketName,
+      String objectName,
+      String region,
+      Multimap<String, String> headerMap,
+      Multimap<String, String> queryParamMap,
+      Object body,
+      int length,
+      PayloadPolicy payloadPolicy)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    if (requestCoalescer == null || !(method == Method.GET || method == Method.HEAD)) {
+      return executeRequest(
+          method,
+          bucketName,
+          objectName,
+          region,
+          headerMap,
+          queryParamMap,
+          body,
+          length,
+          payloadPolicy);
+    }
+
+    String key =
+        RequestCoalescer.key(method, bucketName, objectName, region, headerMap, queryParamMap);
+    try {
+      return requestCoalescer.execute(
+          key,
+          () ->
+              executeRequest(
+                  method,
+                  bucketName,
+                  objectName,
+                  region,
+                  headerMap,
+                  queryParamMap,
+                  body,
+                  length,
+                  payloadPolicy));
+    } catch (Exception e) {
+      throw taskFailure(e);
+    }
+  }
+
+  private Response executeRequest(
+      Method method,
+      String bucketName,
+      String objectName,
+      String region,
+      Multimap<String, String> headerMap,
+      Multimap<String, String> queryParamMap,
+      Object body,
+      int length,
+      PayloadPolicy payloadPolicy)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
     boolean traceRequestBody = false;
     if (body != null
         && !(body instanceof InputStream
             || body instanceof RandomAccessFile
+            || body instanceof FileRegion
+            || body instanceof ByteBuffer
             || body instanceof byte[])) {
       byte[] bytes;
       if (body instanceof CharSequence) {
@@ -983,13 +1179,42 @@ public class MinioClient {
       body = EMPTY_BODY;
     }
 
+    // Object data is sent with streaming signature if enabled.
+    if (payloadPolicy == null
+        && this.streamingSignature
+        && method == Method.PUT
+        && !traceRequestBody
+        && length > 0) {
+      payloadPolicy = PayloadPolicy.streamingSignature();
+    }
+
+    // Streaming signature needs credentials to sign with.
+    if (payloadPolicy != null
+        && payloadPolicy.type() == PayloadPolicy.Type.STREAMING_SIGNATURE
+        && (this.accessKey == null || this.secretKey == null)) {
+      payloadPolicy = null;
+    }
+
     HttpUrl url = buildUrl(method, bucketName, objectName, region, queryParamMap);
-    Request request = createRequest(url, method, headerMap, body, length);
+    Request request = createRequest(url, method, headerMap, body, length, payloadPolicy);
 
     if (this.accessKey != null && this.secretKey != null) {
       request = Signer.signV4(request, region, accessKey, secretKey);
     }
 
+    if (payloadPolicy != null && payloadPolicy.type() == PayloadPolicy.Type.STREAMING_SIGNATURE) {
+      String seedSignature = Signer.getChunkSeedSignature(request, region, secretKey);
+      DateTime date = DateTime.parse(request.header("x-amz-date"), Time.AMZ_DATE_FORMAT);
+      request =
+          request
+              .newBuilder()
+              .method(
+                  request.method(),
+                  new ChunkSignedRequestBody(
+                      request.body(), date, region, secretKey, seedSignature))
+              .build();
+    }
+
     if (this.traceStream != null) {
       this.traceStream.println("---------START-HTTP---------");
       String encodedPath = request.url().encodedPath();
@@ -1040,9 +1265,12 @@ public class MinioClient {
       this.traceStream.println(errorXml);
     }
 
-    // Error in case of Non-XML response from server for non-HEAD requests.
+    // Error in case of Non-XML response from server for non-HEAD requests. Not modified response
+    // of conditional GET has no body.
+    boolean notModified = response.code() == 304;
     String contentType = response.headers().get("content-type");
     if (!method.equals(Method.HEAD)
+        && !notModified
         && (contentType == null
             || !Arrays.asList(contentType.split(";")).contains("application/xml"))) {
       if (this.traceStream != null) {
@@ -1054,7 +1282,7 @@ public class MinioClient {
     ErrorResponse errorResponse = null;
     if (!"".equals(errorXml)) {
       errorResponse = Xml.unmarshal(ErrorResponse.class, errorXml);
-    } else if (!method.equals(Method.HEAD)) {
+    } else if (!method.equals(Method.HEAD) && !notModified) {
       if (this.traceStream != null) {
         this.traceStream.println(END_HTTP);
       }
@@ -1068,6 +1296,9 @@ public class MinioClient {
     if (errorResponse == null) {
       ErrorCode ec;
       switch (response.code()) {
+        case 304:
+          ec = ErrorCode.NOT_MODIFIED;
+          break;
         case 307:
           ec = ErrorCode.REDIRECT;
           break;
@@ -1191,6 +1422,102 @@ public class MinioClient {
     return region;
   }
 
+  /** Returns executor service to run concurrent transfers, creating shared one if not set. */
+  private synchronized ExecutorService executorService() {
+    if (this.executorService == null) {
+      this.executorService =
+          Executors.newCachedThreadPool(
+              new ThreadFactoryBuilder()
+                  .setNameFormat("minio-transfer-%d")
+                  .setDaemon(true)
+                  .build());
+    }
+
+    return this.executorService;
+  }
+
+  /** Reserves given bytes from memory budget, waiting for other transfers to release them. */
+  private void reserveMemory(long bytes) throws InterruptedIOException {
+    if (memoryBudget == null) {
+      return;
+    }
+
+    try {
+      memoryBudget.reserve(bytes);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted while waiting for memory budget");
+    }
+  }
+
+  /** Reserves given bytes from memory budget if they are available without waiting. */
+  private boolean tryReserveMemory(long bytes) {
+    return memoryBudget == null || memoryBudget.tryReserve(bytes);
+  }
+
+  private void releaseMemory(long bytes) {
+    if (memoryBudget != null && bytes > 0) {
+      memoryBudget.release(bytes);
+    }
+  }
+
+  /**
+   * Rethrows cause of a failed concurrent task as one of S3 operation exceptions, or returns it as
+   * unchecked exception for the caller to throw.
+   */
+  private RuntimeException taskFailure(Throwable e)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    if (e instanceof ExecutionException && e.getCause() != null) {
+      e = e.getCause();
+    }
+
+    if (e instanceof ErrorResponseException) {
+      throw (ErrorResponseException) e;
+    }
+    if (e instanceof InsufficientDataException) {
+      throw (InsufficientDataException) e;
+    }
+    if (e instanceof InternalException) {
+      throw (InternalException) e;
+    }
+    if (e instanceof InvalidBucketNameException) {
+      throw (InvalidBucketNameException) e;
+    }
+    if (e instanceof InvalidKeyException) {
+      throw (InvalidKeyException) e;
+    }
+    if (e instanceof InvalidResponseException) {
+      throw (InvalidResponseException) e;
+    }
+    if (e instanceof IOException) {
+      throw (IOException) e;
+    }
+    if (e instanceof NoSuchAlgorithmException) {
+      throw (NoSuchAlgorithmException) e;
+    }
+    if (e instanceof ServerException) {
+      throw (ServerException) e;
+    }
+    if (e instanceof XmlParserException) {
+      throw (XmlParserException) e;
+    }
+    if (e instanceof InterruptedException) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted while waiting for concurrent transfer");
+    }
+    if (e instanceof RuntimeException) {
+      return (RuntimeException) e;
+    }
+    if (e instanceof Error) {
+      throw (Error) e;
+    }
+
+    return new RuntimeException(e);
+  }
+
   private Response executeGet(
       BaseArgs args, Multimap<String, String> headers, Multimap<String, String> queryParams)
       throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
@@ -1387,15 +1714,15 @@ public class MinioClient {
     checkArgs(args);
     args.validateSsec(baseUrl);
 
-    Multimap<String, String> ssecHeaders = null;
+    Multimap<String, String> headers = args.genHeaders();
     if (args.ssec() != null) {
-      ssecHeaders = Multimaps.forMap(args.ssec().headers());
+      headers.putAll(Multimaps.forMap(args.ssec().headers()));
     }
 
     Multimap<String, String> queryParams = HashMultimap.create();
     if (args.versionId() != null) queryParams.put("versionId", args.versionId());
 
-    Response response = executeHead(args, ssecHeaders, queryParams);
+    Response response = executeHead(args, headers, queryParams);
     return new ObjectStat(args.bucket(), args.object(), response.headers());
   }
 
@@ -1593,6 +1920,11 @@ public class MinioClient {
    * Gets data from offset to length of a SSE-C encrypted object. Returned {@link InputStream} must
    * be closed after use to release network resources.
    *
+   * <p>If {@link GetObjectArgs.Builder#parallelRanges(int)} is set, data is fetched by that many
+   * concurrent ranged GETs of {@link GetObjectArgs#rangeSize()} ahead of the reader and returned in
+   * order. Every range request is pinned to ETag of the object, so data of an object overwritten
+   * meanwhile is never mixed in; such read fails with precondition failed error.
+   *
    * <pre>Example:{@code
    * try (InputStream stream =
    *     minioClient.getObject("my-bucketname", "my-objectname", 1024L, 4096L, ssec)) {
@@ -1642,7 +1974,8 @@ public class MinioClient {
 
   /**
    * Gets data from offset to length of a SSE-C encrypted object. Returned {@link InputStream} must
-   * be closed after use to release network resources.
+   * be closed after use to release network resources. Use {@link
+   * #getObjectWithMetadata(GetObjectArgs)} to get object information with the data.
    *
    * <pre>Example:{@code
    * try (InputStream stream =
@@ -1672,7 +2005,851 @@ public class MinioClient {
    * @throws NoSuchAlgorithmException thrown to indicate missing of MD5 or SHA-256 digest library.
    * @throws XmlParserException thrown to indicate XML parsing error.
    */
-  public InputStream getObject(GetObjectArgs args)
+  public InputStream getObject(GetObjectArgs args)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    return getObjectWithMetadata(args);
+  }
+
+  /**
+   * Gets data from offset to length of a SSE-C encrypted object with object information i.e.
+   * size, ETag, version ID and user metadata taken from the same response, so no separate {@link
+   * #statObject(StatObjectArgs)} is needed. Returned {@link GetObjectResponse} must be closed after
+   * use to release network resources.
+   *
+   * <pre>Example:{@code
+   * try (GetObjectResponse stream =
+   *     minioClient.getObjectWithMetadata(
+   *   GetObjectArgs.builder()
+   *     .bucket("my-bucketname")
+   *     .object("my-objectname")
+   *     .offset(offset)
+   *     .length(len)
+   *     .ssec(ssec)
+   *     .build()
+   * ) {
+   *   System.out.println(stream.etag() + ", " + stream.objectSize());
+   *   // Read data from stream
+   * }
+   * }</pre>
+   *
+   * @param args Object of {@link GetObjectArgs}
+   * @return {@link GetObjectResponse} - Contains object data, and object information from the
+   *     same response.
+   * @throws ErrorResponseException thrown to indicate S3 service returned an error response.
+   * @throws IllegalArgumentException throws to indicate invalid argument passed.
+   * @throws InsufficientDataException thrown to indicate not enough data available in InputStream.
+   * @throws InternalException thrown to indicate internal library error.
+   * @throws InvalidBucketNameException thrown to indicate invalid bucket name passed.
+   * @throws InvalidKeyException thrown to indicate missing of HMAC SHA-256 library.
+   * @throws InvalidResponseException thrown to indicate S3 service returned invalid or no error
+   *     response.
+   * @throws IOException thrown to indicate I/O error on S3 operation.
+   * @throws NoSuchAlgorithmException thrown to indicate missing of MD5 or SHA-256 digest library.
+   * @throws XmlParserException thrown to indicate XML parsing error.
+   */
+  public GetObjectResponse getObjectWithMetadata(GetObjectArgs args)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    checkArgs(args);
+    args.validateSsec(this.baseUrl);
+    if (args.parallelRanges() > 1) {
+      return getObjectParallel(args);
+    }
+
+    if ((memoryObjectCache != null || objectCache != null) && isCacheable(args)) {
+      return getObjectCached(args);
+    }
+
+    Response response = getObjectResponse(args);
+    return new GetObjectResponse(
+        response.headers(),
+        args.bucket(),
+        args.region(),
+        args.object(),
+        response.body().byteStream());
+  }
+
+  /**
+   * Returns whether object read of given arguments is served by object caches i.e. it reads whole
+   * object without conditions, encryption key or extra query parameters.
+   */
+  private boolean isCacheable(GetObjectArgs args) {
+    return args.offset() == null
+        && args.length() == null
+        && args.matchETag() == null
+        && args.notMatchETag() == null
+        && args.modifiedSince() == null
+        && args.unmodifiedSince() == null
+        && args.ssec() == null
+        && args.extraQueryParams().isEmpty();
+  }
+
+  /**
+   * Gets object data through object caches. Object cached in memory is served without request,
+   * else it is read through object cache if set, and kept in memory if it is small enough.
+   */
+  private GetObjectResponse getObjectCached(GetObjectArgs args)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    String key =
+        ObjectCache.key(objectCacheScope, args.bucket(), args.object(), args.versionId());
+    if (memoryObjectCache != null) {
+      MemoryObjectCache.Entry entry = memoryObjectCache.get(key);
+      if (entry != null) {
+        return new GetObjectResponse(
+            entry.headers(),
+            args.bucket(),
+            args.region(),
+            args.object(),
+            new ByteArrayInputStream(entry.data()));
+      }
+    }
+
+    return cacheInMemory(key, getObjectDiskCached(args, key), false);
+  }
+
+  /**
+   * Reads all data of given response into memory object cache if it is set and the object is small
+   * enough, and returns response of the data read. Else returns given response.
+   */
+  private GetObjectResponse cacheInMemory(String key, GetObjectResponse response, boolean force)
+      throws IOException {
+    long length = response.length();
+    if (memoryObjectCache == null || length < 0 || length > memoryObjectCache.maxObjectSize()) {
+      return response;
+    }
+
+    byte[] data = new byte[(int) length];
+    try (GetObjectResponse r = response) {
+      ByteStreams.readFully(r, data);
+    }
+    memoryObjectCache.put(key, response.headers(), data, force);
+    return new GetObjectResponse(
+        response.headers(),
+        response.bucket(),
+        response.region(),
+        response.object(),
+        new ByteArrayInputStream(data));
+  }
+
+  /**
+   * Gets object data through object cache if it is set. Cached object fresh as per max-stale is
+   * served without request, else it is revalidated by its ETag; object not cached or modified is
+   * fetched and cached as it is read.
+   */
+  private GetObjectResponse getObjectDiskCached(GetObjectArgs args, String key)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    if (objectCache == null) {
+      Response response = getObjectResponse(args);
+      return new GetObjectResponse(
+          response.headers(),
+          args.bucket(),
+          args.region(),
+          args.object(),
+          response.body().byteStream());
+    }
+
+    ObjectCache.Entry entry = objectCache.get(key);
+    if (entry != null) {
+      InputStream stream = null;
+      if (objectCache.isFresh(entry)) {
+        stream = objectCache.open(entry, false);
+      } else {
+        try {
+          Response response = getObjectResponse(new GetObjectArgs(args, entry.etag()));
+          return new GetObjectResponse(
+              response.headers(),
+              args.bucket(),
+              args.region(),
+              args.object(),
+              objectCache.cache(key, response.headers(), response.body().byteStream()));
+        } catch (ErrorResponseException e) {
+          if (e.errorResponse().errorCode() != ErrorCode.NOT_MODIFIED) {
+            throw e;
+          }
+          stream = objectCache.open(entry, true);
+        }
+      }
+
+      if (stream != null) {
+        return new GetObjectResponse(
+            entry.headers(), args.bucket(), args.region(), args.object(), stream);
+      }
+    }
+
+    Response response = getObjectResponse(args);
+    return new GetObjectResponse(
+        response.headers(),
+        args.bucket(),
+        args.region(),
+        args.object(),
+        objectCache.cache(key, response.headers(), response.body().byteStream()));
+  }
+
+  /**
+   * Gets object data of given arguments by concurrent ranged GETs pinned to ETag of the object; see
+   * {@link ParallelObjectInputStream}.
+   */
+  private GetObjectResponse getObjectParallel(GetObjectArgs args)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    ObjectStat stat = statObject(new StatObjectArgs(args));
+    long offset = (args.offset() != null) ? args.offset() : 0;
+    if (args.offset() != null && offset >= stat.length()) {
+      // Range is not satisfiable; read it by single GET to fail with the same InvalidRange error.
+      Response response = getObjectResponse(args);
+      return new GetObjectResponse(
+          response.headers(),
+          args.bucket(),
+          args.region(),
+          args.object(),
+          response.body().byteStream());
+    }
+
+    long end = stat.length();
+    if (args.length() != null) {
+      end = Math.min(offset + args.length(), end);
+    }
+
+    long rangeSize = args.rangeSize();
+    if (rangeSize <= 0) {
+      rangeSize = DownloadObjectArgs.DEFAULT_RANGE_SIZE;
+    }
+
+    // Headers are of the stat made to pin ETag, with content length and range as of the read.
+    Headers.Builder headers = new Headers.Builder();
+    for (Map.Entry<String, List<String>> entry : stat.httpHeaders().entrySet()) {
+      for (String value : entry.getValue()) {
+        headers.add(entry.getKey(), value);
+      }
+    }
+    headers.set("Content-Length", Long.toString(Math.max(end - offset, 0)));
+    if (args.offset() != null || args.length() != null) {
+      headers.set("Content-Range", "bytes " + offset + "-" + (end - 1) + "/" + stat.length());
+    }
+
+    return new GetObjectResponse(
+        headers.build(),
+        args.bucket(),
+        args.region(),
+        args.object(),
+        new ParallelObjectInputStream(
+            this,
+            args,
+            stat.etag(),
+            offset,
+            end,
+            rangeSize,
+            args.parallelRanges(),
+            executorService(),
+            bufferPool,
+            memoryBudget));
+  }
+
+  /**
+   * Gets object data into remaining bytes of given buffer. Data is read from the connection
+   * straight into the buffer without an intermediate stream buffer; position of the buffer is
+   * advanced by the bytes read. Object data is fetched by a single request i.e. {@link
+   * GetObjectArgs#parallelRanges()} is not used.
+   *
+   * <pre>Example:{@code
+   * ByteBuffer buffer = ByteBuffer.allocateDirect((int) size);
+   * minioClient.getObject(
+   *     GetObjectArgs.builder().bucket("my-bucketname").object("my-objectname").build(), buffer);
+   * buffer.flip();
+   * }</pre>
+   *
+   * @param args Object of {@link GetObjectArgs}
+   * @param buffer Buffer to read object data into; it must have room for all of the data.
+   * @return long - Number of bytes read.
+   * @throws ErrorResponseException thrown to indicate S3 service returned an error response.
+   * @throws IllegalArgumentException throws to indicate invalid argument passed.
+   * @throws InsufficientDataException thrown to indicate not enough data available in InputStream.
+   * @throws InternalException thrown to indicate internal library error.
+   * @throws InvalidBucketNameException thrown to indicate invalid bucket name passed.
+   * @throws InvalidKeyException thrown to indicate missing of HMAC SHA-256 library.
+   * @throws InvalidResponseException thrown to indicate S3 service returned invalid or no error
+   *     response.
+   * @throws IOException thrown to indicate I/O error on S3 operation.
+   * @throws NoSuchAlgorithmException thrown to indicate missing of MD5 or SHA-256 digest library.
+   * @throws XmlParserException thrown to indicate XML parsing error.
+   */
+  public long getObject(GetObjectArgs args, ByteBuffer buffer)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    if (buffer == null) {
+      throw new IllegalArgumentException("buffer must not be null");
+    }
+    if (buffer.isReadOnly()) {
+      throw new IllegalArgumentException("buffer must not be read-only");
+    }
+
+    checkArgs(args);
+    args.validateSsec(this.baseUrl);
+    try (Response response = getObjectResponse(args)) {
+      long length = response.body().contentLength();
+      if (length > buffer.remaining()) {
+        throw new IllegalArgumentException(
+            "buffer has " + buffer.remaining() + " bytes remaining, object data is " + length);
+      }
+
+      BufferedSource source = response.body().source();
+      long total = 0;
+      while (buffer.hasRemaining()) {
+        int n = source.read(buffer);
+        if (n < 0) {
+          break;
+        }
+        total += n;
+      }
+      if (!source.exhausted()) {
+        throw new IllegalArgumentException("buffer has no room for object data after " + total);
+      }
+
+      checkLength(total, length);
+      return total;
+    }
+  }
+
+  /**
+   * Gets object data into given file channel at given position. Data is transferred from the
+   * connection by {@link FileChannel#transferFrom(java.nio.channels.ReadableByteChannel, long,
+   * long)}, which lets the platform move it to the file without copying through a stream buffer.
+   * Object data is fetched by a single request; use {@link #downloadObject(DownloadObjectArgs)} to
+   * fetch ranges concurrently.
+   *
+   * <pre>Example:{@code
+   * try (FileChannel channel =
+   *     FileChannel.open(Paths.get("my-filename"), StandardOpenOption.CREATE,
+   *         StandardOpenOption.WRITE)) {
+   *   minioClient.getObject(
+   *       GetObjectArgs.builder().bucket("my-bucketname").object("my-objectname").build(),
+   *       channel,
+   *       0);
+   * }
+   * }</pre>
+   *
+   * @param args Object of {@link GetObjectArgs}
+   * @param channel File channel opened for writing.
+   * @param position Position in the file to write object data at; it must not be greater than
+   *     size of the file.
+   * @return long - Number of bytes written.
+   * @throws ErrorResponseException thrown to indicate S3 service returned an error response.
+   * @throws IllegalArgumentException throws to indicate invalid argument passed.
+   * @throws InsufficientDataException thrown to indicate not enough data available in InputStream.
+   * @throws InternalException thrown to indicate internal library error.
+   * @throws InvalidBucketNameException thrown to indicate invalid bucket name passed.
+   * @throws InvalidKeyException thrown to indicate missing of HMAC SHA-256 library.
+   * @throws InvalidResponseException thrown to indicate S3 service returned invalid or no error
+   *     response.
+   * @throws IOException thrown to indicate I/O error on S3 operation.
+   * @throws NoSuchAlgorithmException thrown to indicate missing of MD5 or SHA-256 digest library.
+   * @throws XmlParserException thrown to indicate XML parsing error.
+   */
+  public long getObject(GetObjectArgs args, FileChannel channel, long position)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    if (channel == null) {
+      throw new IllegalArgumentException("channel must not be null");
+    }
+    if (position < 0 || position > channel.size()) {
+      throw new IllegalArgumentException("position must be between zero and size of the file");
+    }
+
+    checkArgs(args);
+    args.validateSsec(this.baseUrl);
+    try (Response response = getObjectResponse(args)) {
+      long length = response.body().contentLength();
+      long count = (length >= 0) ? length : Long.MAX_VALUE;
+      BufferedSource source = response.body().source();
+      long total = 0;
+      while (total < count) {
+        long n = channel.transferFrom(source, position + total, count - total);
+        if (n == 0 && source.exhausted()) {
+          break;
+        }
+        total += n;
+      }
+
+      checkLength(total, length);
+      return total;
+    }
+  }
+
+  /**
+   * Gets object data into given Okio sink. Buffered segments of the connection are moved to the
+   * sink without copying them. The sink is neither flushed nor closed. Object data is fetched by a
+   * single request i.e. {@link GetObjectArgs#parallelRanges()} is not used.
+   *
+   * <pre>Example:{@code
+   * try (BufferedSink sink = Okio.buffer(Okio.sink(socket))) {
+   *   minioClient.getObject(
+   *       GetObjectArgs.builder().bucket("my-bucketname").object("my-objectname").build(), sink);
+   * }
+   * }</pre>
+   *
+   * @param args Object of {@link GetObjectArgs}
+   * @param sink Okio sink to write object data to.
+   * @return long - Number of bytes written.
+   * @throws ErrorResponseException thrown to indicate S3 service returned an error response.
+   * @throws IllegalArgumentException throws to indicate invalid argument passed.
+   * @throws InsufficientDataException thrown to indicate not enough data available in InputStream.
+   * @throws InternalException thrown to indicate internal library error.
+   * @throws InvalidBucketNameException thrown to indicate invalid bucket name passed.
+   * @throws InvalidKeyException thrown to indicate missing of HMAC SHA-256 library.
+   * @throws InvalidResponseException thrown to indicate S3 service returned invalid or no error
+   *     response.
+   * @throws IOException thrown to indicate I/O error on S3 operation.
+   * @throws NoSuchAlgorithmException thrown to indicate missing of MD5 or SHA-256 digest library.
+   * @throws XmlParserException thrown to indicate XML parsing error.
+   */
+  public long getObject(GetObjectArgs args, BufferedSink sink)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    if (sink == null) {
+      throw new IllegalArgumentException("sink must not be null");
+    }
+
+    checkArgs(args);
+    args.validateSsec(this.baseUrl);
+    try (Response response = getObjectResponse(args)) {
+      long total = sink.writeAll(response.body().source());
+      checkLength(total, response.body().contentLength());
+      return total;
+    }
+  }
+
+  /** Checks given bytes read are as many as content length of the response, if it is known. */
+  private void checkLength(long total, long length) throws InsufficientDataException {
+    if (length >= 0 && total < length) {
+      throw new InsufficientDataException(
+          "Insufficient data.  bytes read " + total + " expected " + length);
+    }
+  }
+
+  /** Executes GET of object data as per given arguments. */
+  private Response getObjectResponse(GetObjectArgs args)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    Long offset = args.offset();
+    Long length = args.length();
+    if (length != null && offset == null) {
+      offset = 0L;
+    }
+
+    Multimap<String, String> headers = args.genHeaders();
+    if (length != null) {
+      headers.put("Range", "bytes=" + offset + "-" + (offset + length - 1));
+    } else if (offset != null) {
+      headers.put("Range", "bytes=" + offset + "-");
+    }
+
+    if (args.ssec() != null) {
+      headers.putAll(Multimaps.forMap(args.ssec().headers()));
+    }
+
+    Multimap<String, String> queryParams = HashMultimap.create();
+    if (args.versionId() != null) queryParams.put("versionId", args.versionId());
+
+    return executeGet(args, headers, queryParams);
+  }
+
+  /**
+   * Reads many byte ranges of an object into caller-provided buffers. Ranges closer than {@link
+   * ReadVectoredArgs#maxGap()} are merged into one ranged GET, and merged requests are made
+   * concurrently. Unless ETag to match is given, requests after the first one are pinned by
+   * If-Match to ETag of the first response, so that ranges of an object overwritten meanwhile are
+   * never mixed; such read fails with precondition failed error.
+   *
+   * <pre>Example:{@code
+   * // Read Parquet footer length and magic, then column chunks listed in the footer.
+   * ByteBuffer tail = ByteBuffer.allocate(8);
+   * minioClient.readVectored(
+   *     ReadVectoredArgs.builder()
+   *         .bucket("my-bucketname")
+   *         .object("my-table.parquet")
+   *         .ranges(Arrays.asList(new ObjectRange(size - 8, tail)))
+   *         .build());
+   *
+   * List<ObjectRange> chunks = new ArrayList<>();
+   * for (ColumnChunk chunk : footer.chunks()) {
+   *   chunks.add(new ObjectRange(chunk.offset(), ByteBuffer.allocateDirect(chunk.length())));
+   * }
+   * long wastedBytes =
+   *     minioClient.readVectored(
+   *         ReadVectoredArgs.builder()
+   *             .bucket("my-bucketname")
+   *             .object("my-table.parquet")
+   *             .ranges(chunks)
+   *             .maxGap(256 * 1024)
+   *             .matchETag(etag)
+   *             .build());
+   * }</pre>
+   *
+   * @param args {@link ReadVectoredArgs} object.
+   * @return long - Number of bytes fetched in gaps between merged ranges and discarded.
+   * @throws ErrorResponseException thrown to indicate S3 service returned an error response.
+   * @throws IllegalArgumentException throws to indicate invalid argument passed.
+   * @throws InsufficientDataException thrown to indicate not enough data available in InputStream.
+   * @throws InternalException thrown to indicate internal library error.
+   * @throws InvalidBucketNameException thrown to indicate invalid bucket name passed.
+   * @throws InvalidKeyException thrown to indicate missing of HMAC SHA-256 library.
+   * @throws InvalidResponseException thrown to indicate S3 service returned invalid or no error
+   *     response.
+   * @throws IOException thrown to indicate I/O error on S3 operation.
+   * @throws NoSuchAlgorithmException thrown to indicate missing of MD5 or SHA-256 digest library.
+   * @throws XmlParserException thrown to indicate XML parsing error.
+   */
+  public long readVectored(ReadVectoredArgs args)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    checkArgs(args);
+    args.validateSsec(this.baseUrl);
+
+    List<ObjectRange> ranges = new ArrayList<>();
+    for (ObjectRange range : args.ranges()) {
+      if (range.buffer().hasRemaining()) {
+        ranges.add(range);
+      }
+    }
+    Collections.sort(ranges, (r1, r2) -> Long.compare(r1.offset(), r2.offset()));
+
+    // Merge ranges into requests; a range joins previous request if it is close enough.
+    List<List<ObjectRange>> requests = new ArrayList<>();
+    List<ObjectRange> request = null;
+    long requestStart = 0;
+    long requestEnd = 0;
+    long wastedBytes = 0;
+    for (ObjectRange range : ranges) {
+      if (request != null && range.offset() < requestEnd) {
+        throw new IllegalArgumentException(
+            "range at offset " + range.offset() + " overlaps previous range");
+      }
+
+      if (request != null
+          && range.offset() - requestEnd <= args.maxGap()
+          && range.end() - requestStart <= args.maxMergedSize()) {
+        wastedBytes += range.offset() - requestEnd;
+      } else {
+        request = new ArrayList<>();
+        requests.add(request);
+        requestStart = range.offset();
+      }
+      request.add(range);
+      requestEnd = range.end();
+    }
+
+    if (requests.isEmpty()) {
+      return 0;
+    }
+
+    // ETag of first response, which other requests wait for, if ETag to match is not given.
+    final SettableFuture<String> firstETag =
+        (args.matchETag() == null) ? SettableFuture.<String>create() : null;
+    CompletionService<Void> completionService = new ExecutorCompletionService<>(executorService());
+    List<Future<Void>> futures = new LinkedList<>();
+    try {
+      int nextRequest = 0;
+      int pendingRequests = 0;
+      while (true) {
+        while (nextRequest < requests.size() && pendingRequests < args.parallelRequests()) {
+          final List<ObjectRange> requestRanges = requests.get(nextRequest);
+          final boolean first = nextRequest == 0;
+          nextRequest++;
+          futures.add(
+              completionService.submit(
+                  () -> {
+                    if (first || firstETag == null) {
+                      readRanges(args, requestRanges, args.matchETag(), firstETag);
+                      return null;
+                    }
+
+                    String etag;
+                    try {
+                      etag = firstETag.get();
+                    } catch (ExecutionException e) {
+                      return null; // failure is reported by the first request.
+                    }
+                    readRanges(args, requestRanges, etag, null);
+                    return null;
+                  }));
+          pendingRequests++;
+        }
+
+        if (pendingRequests == 0) {
+          return wastedBytes;
+        }
+
+        completionService.take().get();
+        pendingRequests--;
+      }
+    } catch (ExecutionException | InterruptedException | RuntimeException e) {
+      for (Future<Void> future : futures) {
+        future.cancel(true);
+      }
+      throw taskFailure(e);
+    }
+  }
+
+  /**
+   * Reads given sorted ranges by one ranged GET, matching given ETag if not null, from start of
+   * first range to end of last range, skipping gaps between them. If ETag future is given, it is
+   * set to ETag of the response as soon as the response is received, or to the failure.
+   */
+  private void readRanges(
+      ReadVectoredArgs args,
+      List<ObjectRange> ranges,
+      String matchETag,
+      SettableFuture<String> etagFuture)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    long start = ranges.get(0).offset();
+    long end = ranges.get(ranges.size() - 1).end();
+    Response response;
+    try {
+      response = getObjectResponse(new GetObjectArgs(args, start, end - start, matchETag));
+    } catch (Exception e) {
+      if (etagFuture != null) {
+        etagFuture.setException(e);
+      }
+      throw e;
+    }
+
+    if (etagFuture != null) {
+      String etag = response.header("ETag");
+      etagFuture.set((etag != null) ? etag.replaceAll("\"", "") : null);
+    }
+
+    try (Response r = response) {
+      BufferedSource source = r.body().source();
+      long position = start;
+      for (ObjectRange range : ranges) {
+        long rangeEnd = range.end();
+        source.skip(range.offset() - position);
+        ByteBuffer buffer = range.buffer();
+        while (buffer.hasRemaining()) {
+          if (source.read(buffer) < 0) {
+            throw new InsufficientDataException(
+                "Insufficient data.  bytes read "
+                    + (rangeEnd - range.offset() - buffer.remaining())
+                    + " expected "
+                    + (rangeEnd - range.offset()));
+          }
+        }
+        position = rangeEnd;
+      }
+    }
+  }
+
+  /**
+   * Gets seekable channel of object data. Channel fetches data by ranged GETs pinned to ETag of the
+   * object, widening read-ahead for sequential reads and caching recently read blocks for backward
+   * seeks; see {@link ObjectChannel}. Offset and length of given arguments are not used. Returned
+   * channel must be closed after use to release network and buffer resources.
+   *
+   * <pre>Example:{@code
+   * try (ObjectChannel channel =
+   *     minioClient.getObjectChannel(
+   *         GetObjectArgs.builder().bucket("my-bucketname").object("my-archive.zip").build())) {
+   *   // Read zip central directory at the end of object and entries at their offsets.
+   *   ZipReader reader = new ZipReader(channel);
+   * }
+   * }</pre>
+   *
+   * @param args {@link GetObjectArgs} object.
+   * @return {@link ObjectChannel} - Seekable channel of object data.
+   * @throws ErrorResponseException thrown to indicate S3 service returned an error response.
+   * @throws IllegalArgumentException throws to indicate invalid argument passed.
+   * @throws InsufficientDataException thrown to indicate not enough data available in InputStream.
+   * @throws InternalException thrown to indicate internal library error.
+   * @throws InvalidBucketNameException thrown to indicate invalid bucket name passed.
+   * @throws InvalidKeyException thrown to indicate missing of HMAC SHA-256 library.
+   * @throws InvalidResponseException thrown to indicate S3 service returned invalid or no error
+   *     response.
+   * @throws IOException thrown to indicate I/O error on S3 operation.
+   * @throws NoSuchAlgorithmException thrown to indicate missing of MD5 or SHA-256 digest library.
+   * @throws XmlParserException thrown to indicate XML parsing error.
+   */
+  public ObjectChannel getObjectChannel(GetObjectArgs args)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    checkArgs(args);
+    args.validateSsec(this.baseUrl);
+    ObjectStat stat = statObject(new StatObjectArgs(args));
+    return new ObjectChannel(this, args, stat, bufferPool, memoryBudget);
+  }
+
+  /**
+   * Fetches given objects into object caches of this client ahead of their reads, so that later
+   * {@link #getObject(GetObjectArgs)} of them is served from the caches. Objects are fetched
+   * concurrently; objects small enough for memory object cache are always admitted to it, and
+   * objects already cached in memory are not fetched.
+   *
+   * <pre>Example:{@code
+   * minioClient.prefetchObjects(
+   *     PrefetchObjectsArgs.builder()
+   *         .bucket("my-bucketname")
+   *         .objects(Arrays.asList("manifest.json", "thumbnails/1.png", "thumbnails/2.png"))
+   *         .build());
+   * }</pre>
+   *
+   * @param args {@link PrefetchObjectsArgs} object.
+   * @throws ErrorResponseException thrown to indicate S3 service returned an error response.
+   * @throws IllegalArgumentException throws to indicate invalid argument passed.
+   * @throws InsufficientDataException thrown to indicate not enough data available in InputStream.
+   * @throws InternalException thrown to indicate internal library error.
+   * @throws InvalidBucketNameException thrown to indicate invalid bucket name passed.
+   * @throws InvalidKeyException thrown to indicate missing of HMAC SHA-256 library.
+   * @throws InvalidResponseException thrown to indicate S3 service returned invalid or no error
+   *     response.
+   * @throws IOException thrown to indicate I/O error on S3 operation.
+   * @throws NoSuchAlgorithmException thrown to indicate missing of MD5 or SHA-256 digest library.
+   * @throws XmlParserException thrown to indicate XML parsing error.
+   */
+  public void prefetchObjects(PrefetchObjectsArgs args)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    checkArgs(args);
+    if (memoryObjectCache == null && objectCache == null) {
+      throw new IllegalArgumentException("object cache must be set to prefetch objects");
+    }
+
+    CompletionService<Void> completionService = new ExecutorCompletionService<>(executorService());
+    List<Future<Void>> futures = new LinkedList<>();
+    try {
+      int pendingObjects = 0;
+      for (String objectName : args.objects()) {
+        if (pendingObjects == args.parallelRequests()) {
+          completionService.take().get();
+          pendingObjects--;
+        }
+
+        futures.add(completionService.submit(() -> prefetchObject(args, objectName)));
+        pendingObjects++;
+      }
+
+      while (pendingObjects > 0) {
+        completionService.take().get();
+        pendingObjects--;
+      }
+    } catch (ExecutionException | InterruptedException | RuntimeException e) {
+      for (Future<Void> future : futures) {
+        future.cancel(true);
+      }
+      throw taskFailure(e);
+    }
+  }
+
+  private Void prefetchObject(PrefetchObjectsArgs args, String objectName)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    String key = ObjectCache.key(objectCacheScope, args.bucket(), objectName, null);
+    if (memoryObjectCache != null && memoryObjectCache.contains(key)) {
+      return null;
+    }
+
+    GetObjectArgs getArgs =
+        GetObjectArgs.builder()
+            .extraHeaders(args.extraHeaders())
+            .bucket(args.bucket())
+            .region(args.region())
+            .object(objectName)
+            .build();
+    try (GetObjectResponse response =
+        cacheInMemory(key, getObjectDiskCached(getArgs, key), true)) {
+      if (objectCache != null) {
+        // Object cache keeps object data once all of it is read.
+        ByteStreams.exhaust(response);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Downloads data of an object to file. Object data is written to a temporary file next to the
+   * target file, which is renamed to the target file when all data is written. If {@link
+   * DownloadObjectArgs.Builder#parallelRanges(int)} is set, byte ranges of the object are fetched
+   * concurrently and written at their positions of the preallocated temporary file. Every range
+   * request is pinned to ETag of the object, so data of an object overwritten meanwhile is never
+   * mixed in; such download fails with precondition failed error. If {@link
+   * DownloadObjectArgs.Builder#resumable(boolean)} is set, downloaded data and its progress are
+   * kept on failure and next download continues from the last durably written offset of each
+   * range, as long as the object still has the same ETag.
+   *
+   * <pre>Example:{@code
+   * // Download object.
+   * minioClient.downloadObject(
+   *     DownloadObjectArgs.builder()
+   *         .bucket("my-bucketname")
+   *         .object("my-objectname")
+   *         .filename("my-object-file")
+   *         .build());
+   *
+   * // Download SSE-C encrypted object fetching four 16MiB ranges concurrently.
+   * minioClient.downloadObject(
+   *     DownloadObjectArgs.builder()
+   *         .bucket("my-bucketname")
+   *         .object("my-objectname")
+   *         .ssec(ssec)
+   *         .filename("my-object-file")
+   *         .parallelRanges(4)
+   *         .rangeSize(16 * 1024 * 1024)
+   *         .build());
+   *
+   * // Download object resumably; re-running after a failure fetches only missing data.
+   * minioClient.downloadObject(
+   *     DownloadObjectArgs.builder()
+   *         .bucket("my-bucketname")
+   *         .object("my-objectname")
+   *         .filename("my-object-file")
+   *         .resumable(true)
+   *         .build());
+   * }</pre>
+   *
+   * @param args {@link DownloadObjectArgs} object.
+   * @throws ErrorResponseException thrown to indicate S3 service returned an error response.
+   * @throws IllegalArgumentException throws to indicate invalid argument passed.
+   * @throws InsufficientDataException thrown to indicate not enough data available in InputStream.
+   * @throws InternalException thrown to indicate internal library error.
+   * @throws InvalidBucketNameException thrown to indicate invalid bucket name passed.
+   * @throws InvalidKeyException thrown to indicate missing of HMAC SHA-256 library.
+   * @throws InvalidResponseException thrown to indicate S3 service returned invalid or no error
+   *     response.
+   * @throws IOException thrown to indicate I/O error on S3 operation.
+   * @throws NoSuchAlgorithmException thrown to indicate missing of MD5 or SHA-256 digest library.
+   * @throws XmlParserException thrown to indicate XML parsing error.
+   */
+  public void downloadObject(DownloadObjectArgs args)
       throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
           InternalException, InvalidBucketNameException, InvalidKeyException,
           InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
@@ -1680,28 +2857,182 @@ public class MinioClient {
     checkArgs(args);
     args.validateSsec(this.baseUrl);
 
-    Long offset = args.offset();
-    Long length = args.length();
-    if (length != null && offset == null) {
-      offset = 0L;
+    ObjectStat stat = statObject(new StatObjectArgs((ObjectReadArgs) args));
+    long length = stat.length();
+    long rangeSize = args.rangeSize();
+    if (rangeSize <= 0) {
+      rangeSize = (args.parallelRanges() > 1) ? DownloadObjectArgs.DEFAULT_RANGE_SIZE : length;
+    }
+
+    File file = new File(args.filename());
+    File parent = file.getAbsoluteFile().getParentFile();
+    if (parent != null) {
+      parent.mkdirs();
+    }
+
+    File tempFile;
+    DownloadJournal journal = null;
+    if (args.resumable()) {
+      tempFile = new File(args.filename() + ".part");
+      File journalFile = new File(args.filename() + ".part.progress");
+      journal = DownloadJournal.load(journalFile);
+      if (journal != null
+          && !journal.matches(
+              args.bucket(), args.object(), args.versionId(), stat.etag(), length, rangeSize)) {
+        // Progress is of other object or version; its data is of no use.
+        journal.delete();
+        journal = null;
+      }
+
+      if (journal == null) {
+        tempFile.delete();
+        journal =
+            DownloadJournal.create(
+                journalFile,
+                args.bucket(),
+                args.object(),
+                args.versionId(),
+                stat.etag(),
+                length,
+                rangeSize);
+      }
+    } else {
+      tempFile = new File(args.filename() + "." + S3Escaper.encode(stat.etag()) + ".part.minio");
     }
 
-    Multimap<String, String> headers = HashMultimap.create();
-    if (length != null) {
-      headers.put("Range", "bytes=" + offset + "-" + (offset + length - 1));
-    } else if (offset != null) {
-      headers.put("Range", "bytes=" + offset + "-");
+    boolean done = false;
+    try {
+      try (RandomAccessFile raf = new RandomAccessFile(tempFile, "rw")) {
+        // Preallocate the file, so that ranges are written at their positions in any order.
+        raf.setLength(length);
+        if (length > 0) {
+          downloadRanges(args, stat.etag(), raf.getChannel(), length, rangeSize, journal);
+        }
+        raf.getFD().sync();
+      }
+
+      Files.move(
+          tempFile.toPath(),
+          file.toPath(),
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+      done = true;
+    } finally {
+      if (journal != null) {
+        if (done) {
+          journal.delete();
+        } else {
+          journal.close();
+        }
+      } else if (!done) {
+        tempFile.delete();
+      }
     }
+  }
 
-    if (args.ssec() != null) {
-      headers.putAll(Multimaps.forMap(args.ssec().headers()));
+  /**
+   * Fetches {@code length} bytes of object in ranges of {@code rangeSize} with up to {@code
+   * parallelRanges} ranges in flight, writing each range at its position of given channel. If
+   * journal is given, ranges continue from their recorded offsets and record their progress. If
+   * any range fails, remaining ranges are cancelled.
+   */
+  private void downloadRanges(
+      DownloadObjectArgs args,
+      String etag,
+      FileChannel channel,
+      long length,
+      long rangeSize,
+      DownloadJournal journal)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    int rangeCount = (int) ((length + rangeSize - 1) / rangeSize);
+    CompletionService<Long> completionService =
+        new ExecutorCompletionService<>(executorService());
+    List<Future<Long>> futures = new LinkedList<>();
+    try {
+      int nextRange = 0;
+      int pendingRanges = 0;
+      while (true) {
+        while (nextRange < rangeCount && pendingRanges < args.parallelRanges()) {
+          final long rangeOffset = nextRange++ * rangeSize;
+          final long rangeEnd = Math.min(rangeOffset + rangeSize, length);
+          final long offset = (journal != null) ? journal.offset(rangeOffset) : rangeOffset;
+          if (offset >= rangeEnd) {
+            continue;
+          }
+
+          futures.add(
+              completionService.submit(
+                  () ->
+                      downloadRange(
+                          args, etag, channel, rangeOffset, offset, rangeEnd, journal)));
+          pendingRanges++;
+        }
+
+        if (pendingRanges == 0) {
+          return;
+        }
+
+        completionService.take().get();
+        pendingRanges--;
+      }
+    } catch (ExecutionException | InterruptedException | RuntimeException e) {
+      for (Future<Long> future : futures) {
+        future.cancel(true);
+      }
+      throw taskFailure(e);
     }
+  }
 
-    Multimap<String, String> queryParams = HashMultimap.create();
-    if (args.versionId() != null) queryParams.put("versionId", args.versionId());
+  /**
+   * Fetches data from {@code offset} to {@code end} of range starting at {@code rangeOffset} pinned
+   * to given ETag and writes it at its position. If journal is given, written data is synced and
+   * recorded at every {@code DOWNLOAD_CHECKPOINT_SIZE} bytes and at the end.
+   */
+  private long downloadRange(
+      DownloadObjectArgs args,
+      String etag,
+      FileChannel channel,
+      long rangeOffset,
+      long offset,
+      long end,
+      DownloadJournal journal)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    reserveMemory(DOWNLOAD_BUFFER_SIZE);
+    byte[] buf = bufferPool.acquireArray(DOWNLOAD_BUFFER_SIZE);
+    long length = end - offset;
+    try (InputStream stream = getObject(new GetObjectArgs(args, offset, length, etag))) {
+      long position = offset;
+      long checkpoint = offset;
+      while (position < end) {
+        int n = stream.read(buf, 0, (int) Math.min(buf.length, end - position));
+        if (n < 0) {
+          throw new InsufficientDataException(
+              "Insufficient data.  bytes read " + (position - offset) + " expected " + length);
+        }
+
+        ByteBuffer data = ByteBuffer.wrap(buf, 0, n);
+        while (data.hasRemaining()) {
+          position += channel.write(data, position);
+        }
 
-    Response response = executeGet(args, headers, queryParams);
-    return response.body().byteStream();
+        if (journal != null
+            && (position == end || position - checkpoint >= DOWNLOAD_CHECKPOINT_SIZE)) {
+          channel.force(false);
+          journal.append(rangeOffset, position);
+          checkpoint = position;
+        }
+      }
+      return length;
+    } finally {
+      bufferPool.release(buf);
+      releaseMemory(DOWNLOAD_BUFFER_SIZE);
+    }
   }
 
   /**
@@ -2381,7 +3712,7 @@ public class MinioClient {
 
     String region = getRegion(args.bucket(), args.region());
     HttpUrl url = buildUrl(args.method(), args.bucket(), args.object(), region, queryParams);
-    Request request = createRequest(url, args.method(), null, body, 0);
+    Request request = createRequest(url, args.method(), null, body, 0, null);
     url = Signer.presignV4(request, region, accessKey, secretKey, args.expiry());
     return url.toString();
   }
@@ -3084,10 +4415,125 @@ public class MinioClient {
       return listObjectsV1(args);
     }
 
+    if (args.parallelPartitions() > 1) {
+      return listObjectsPartitioned(args);
+    }
+
     return listObjectsV2(args);
   }
 
+  /**
+   * Lists all objects of given bucket and prefix into a {@link ListingSnapshot} persisted to given
+   * file. After every checkpoint pages, objects listed so far and continuation token of next page
+   * are appended to the file; if the file holds an interrupted listing of the same bucket and
+   * prefix, listing resumes from its last checkpoint. A complete snapshot in the file is replaced
+   * by a new listing. Complete snapshot files are read by {@link ListingSnapshot#read(File)} and
+   * compared by {@link ListingSnapshot#diff(ListingSnapshot, ListingSnapshot)}.
+   *
+   * <pre>Example:{@code
+   * ListingSnapshot previous = ListingSnapshot.read(new File("listing-2020-05-01.snapshot"));
+   * ListingSnapshot current =
+   *     minioClient.snapshotObjects(
+   *         SnapshotObjectsArgs.builder()
+   *             .bucket("my-bucketname")
+   *             .filename("listing-2020-05-02.snapshot")
+   *             .build());
+   * for (ListingChange change : ListingSnapshot.diff(previous, current)) {
+   *   System.out.println(change.type() + " " + change.objectName());
+   * }
+   * }</pre>
+   *
+   * @param args {@link SnapshotObjectsArgs} object.
+   * @return {@link ListingSnapshot} - Snapshot of all objects.
+   * @throws ErrorResponseException thrown to indicate S3 service returned an error response.
+   * @throws IllegalArgumentException throws to indicate invalid argument passed.
+   * @throws InsufficientDataException thrown to indicate not enough data available in InputStream.
+   * @throws InternalException thrown to indicate internal library error.
+   * @throws InvalidBucketNameException thrown to indicate invalid bucket name passed.
+   * @throws InvalidKeyException thrown to indicate missing of HMAC SHA-256 library.
+   * @throws InvalidResponseException thrown to indicate S3 service returned invalid or no error
+   *     response.
+   * @throws IOException thrown to indicate I/O error on S3 operation or on the snapshot file.
+   * @throws NoSuchAlgorithmException thrown to indicate missing of MD5 or SHA-256 digest library.
+   * @throws XmlParserException thrown to indicate XML parsing error.
+   */
+  public ListingSnapshot snapshotObjects(SnapshotObjectsArgs args)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    checkArgs(args);
+
+    File file = new File(args.filename());
+    ListingSnapshotFile.Checkpoint checkpoint = null;
+    if (file.exists()) {
+      checkpoint = ListingSnapshotFile.read(file);
+      if (!checkpoint.bucketName().equals(args.bucket())
+          || !checkpoint.prefix().equals(args.prefix())) {
+        throw new IllegalArgumentException(
+            args.filename()
+                + ": snapshot of another listing of bucket "
+                + checkpoint.bucketName()
+                + " and prefix '"
+                + checkpoint.prefix()
+                + "'");
+      }
+    }
+
+    ListingSnapshot snapshot;
+    String continuationToken = null;
+    ListingSnapshotFile snapshotFile;
+    if (checkpoint != null && !checkpoint.complete()) {
+      snapshot = checkpoint.snapshot();
+      continuationToken = checkpoint.continuationToken();
+      snapshotFile = ListingSnapshotFile.append(file, checkpoint);
+    } else {
+      snapshot = new ListingSnapshot();
+      snapshotFile = ListingSnapshotFile.create(file, args.bucket(), args.prefix());
+    }
+
+    try (ListingSnapshotFile out = snapshotFile) {
+      int checkpointed = snapshot.size();
+      int pages = 0;
+      do {
+        ListBucketResultV2 result =
+            listObjectsV2(
+                args.bucket(),
+                args.region(),
+                "",
+                true,
+                null,
+                1000,
+                args.prefix(),
+                continuationToken,
+                false,
+                false,
+                args.extraHeaders(),
+                args.extraQueryParams());
+        // Names are URL encoded in the response to allow characters not valid in XML.
+        for (Item item : result.contents()) {
+          snapshot.add(item, decodeKey(item.objectName(), result.useUrlEncodingType()));
+        }
+        continuationToken = result.isTruncated() ? result.nextContinuationToken() : null;
+
+        if (continuationToken == null || ++pages % args.checkpointPages() == 0) {
+          out.checkpoint(snapshot, checkpointed, continuationToken);
+          checkpointed = snapshot.size();
+        }
+      } while (continuationToken != null);
+    }
+
+    snapshot.trimToSize();
+    return snapshot;
+  }
+
+  /**
+   * Iterator of listing pages. If prefetch pages of arguments is set, next pages are fetched in
+   * background as soon as their previous page is fetched, with up to prefetch pages fetched ahead
+   * of the page being read.
+   */
   private abstract class ObjectIterator implements Iterator<Result<Item>> {
+    protected final int prefetchPages;
     protected Result<Item> error;
     protected Iterator<? extends Item> itemIterator;
     protected Iterator<DeleteMarker> deleteMarkerIterator;
@@ -3095,13 +4541,79 @@ public class MinioClient {
     protected boolean completed = false;
     protected ListObjectsResult listObjectsResult;
     protected String lastObjectName;
+    // pages being fetched ahead in listing order.
+    private final Queue<Future<ListObjectsResult>> pages = new LinkedList<>();
+    private Future<ListObjectsResult> lastPage;
 
-    protected abstract void populateResult()
+    protected ObjectIterator(ListObjectsArgs args) {
+      this.prefetchPages = args.prefetchPages();
+    }
+
+    /** Fetches page next to given page; first page if given page is null. */
+    protected abstract ListObjectsResult fetchResult(ListObjectsResult previous)
         throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
             InternalException, InvalidBucketNameException, InvalidKeyException,
             InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
             XmlParserException;
 
+    /** Returns name of last object of given page; used as marker of next page if needed. */
+    protected String lastObjectName(ListObjectsResult result) {
+      List<? extends Item> contents = result.contents();
+      return contents.isEmpty() ? null : contents.get(contents.size() - 1).objectName();
+    }
+
+    protected void populateResult()
+        throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+            InternalException, InvalidBucketNameException, InvalidKeyException,
+            InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+            XmlParserException {
+      ListObjectsResult previous = this.listObjectsResult;
+      this.listObjectsResult = null;
+      this.itemIterator = null;
+      this.prefixIterator = null;
+
+      if (prefetchPages == 0) {
+        this.listObjectsResult = fetchResult(previous);
+        return;
+      }
+
+      fetchAhead();
+      try {
+        this.listObjectsResult = pages.remove().get();
+      } catch (ExecutionException | InterruptedException | RuntimeException e) {
+        for (Future<ListObjectsResult> page : pages) {
+          page.cancel(true);
+        }
+        pages.clear();
+        throw taskFailure(e);
+      }
+    }
+
+    /**
+     * Schedules fetches of next page and up to prefetch pages after it. Fetch of a page waits for
+     * its previous page and gives null if the previous page is the last one.
+     */
+    private void fetchAhead() {
+      while (pages.size() <= prefetchPages) {
+        final Future<ListObjectsResult> previousPage = lastPage;
+        lastPage =
+            executorService()
+                .submit(
+                    () -> {
+                      if (previousPage == null) {
+                        return fetchResult(null);
+                      }
+
+                      ListObjectsResult previous = previousPage.get();
+                      if (previous == null || !previous.isTruncated()) {
+                        return null;
+                      }
+                      return fetchResult(previous);
+                    });
+        pages.add(lastPage);
+      }
+    }
+
     protected synchronized void populate() {
       try {
         populateResult();
@@ -3159,100 +4671,480 @@ public class MinioClient {
         return true;
       }
 
-      if (this.deleteMarkerIterator.hasNext()) {
-        return true;
+      if (this.deleteMarkerIterator.hasNext()) {
+        return true;
+      }
+
+      if (this.prefixIterator.hasNext()) {
+        return true;
+      }
+
+      this.completed = true;
+      return false;
+    }
+
+    @Override
+    public Result<Item> next() {
+      if (this.completed) {
+        throw new NoSuchElementException();
+      }
+
+      if (this.error == null
+          && this.itemIterator == null
+          && this.deleteMarkerIterator == null
+          && this.prefixIterator == null) {
+        populate();
+      }
+
+      if (this.error == null
+          && !this.itemIterator.hasNext()
+          && !this.deleteMarkerIterator.hasNext()
+          && !this.prefixIterator.hasNext()
+          && this.listObjectsResult.isTruncated()) {
+        populate();
+      }
+
+      if (this.error != null) {
+        this.completed = true;
+        return this.error;
+      }
+
+      if (this.itemIterator.hasNext()) {
+        Item item = this.itemIterator.next();
+        this.lastObjectName = item.objectName();
+        return new Result<>(item);
+      }
+
+      if (this.deleteMarkerIterator.hasNext()) {
+        return new Result<>(this.deleteMarkerIterator.next());
+      }
+
+      if (this.prefixIterator.hasNext()) {
+        return new Result<>(this.prefixIterator.next().toItem());
+      }
+
+      this.completed = true;
+      throw new NoSuchElementException();
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  /** Keyspace partition of objects after lower bound up to upper bound; last one has no upper. */
+  private static class ListingPartition {
+    private final String lowerBound;
+    private final String upperBound;
+    // pages being fetched ahead in listing order.
+    private final Queue<Future<ListBucketResultV2>> pages = new LinkedList<>();
+    private Future<ListBucketResultV2> lastPage;
+    private boolean completed;
+
+    private ListingPartition(String lowerBound, String upperBound) {
+      this.lowerBound = lowerBound;
+      this.upperBound = upperBound;
+    }
+
+    private boolean contains(String objectName) {
+      return upperBound == null || compareKeys(objectName, upperBound) <= 0;
+    }
+
+    /** Returns whether given page reaches past upper bound i.e. no more page is needed. */
+    private boolean isPast(ListBucketResultV2 page) {
+      List<Contents> contents = page.contents();
+      return !contents.isEmpty()
+          && !contains(
+              decodeKey(contents.get(contents.size() - 1).objectName(), page.useUrlEncodingType()));
+    }
+
+    private List<Item> items(ListBucketResultV2 page) {
+      List<Item> items = new ArrayList<>(page.contents().size());
+      for (Item item : page.contents()) {
+        if (!contains(decodeKey(item.objectName(), page.useUrlEncodingType()))) {
+          break;
+        }
+        items.add(item);
+      }
+      return items;
+    }
+  }
+
+  /** Compares object names by code points, which is the order of their UTF-8 bytes in S3. */
+  static int compareKeys(String a, String b) {
+    int i = 0;
+    int j = 0;
+    while (i < a.length() && j < b.length()) {
+      int c1 = a.codePointAt(i);
+      int c2 = b.codePointAt(j);
+      if (c1 != c2) {
+        return Integer.compare(c1, c2);
+      }
+      i += Character.charCount(c1);
+      j += Character.charCount(c2);
+    }
+    return Integer.compare(a.length() - i, b.length() - j);
+  }
+
+  /** Returns object name of listing page decoded if the page is URL encoded. */
+  static String decodeKey(String objectName, boolean urlEncoded) {
+    if (!urlEncoded) {
+      return objectName;
+    }
+
+    try {
+      return URLDecoder.decode(objectName, StandardCharsets.UTF_8.name());
+    } catch (UnsupportedEncodingException e) {
+      throw new IllegalStateException(e); // UTF-8 is always supported.
+    }
+  }
+
+  /**
+   * Iterator of objects listed by concurrent keyspace partitions. Partition boundaries are
+   * discovered on first read. In order, pages are read partition by partition; else a page is read
+   * as soon as any partition has fetched one.
+   */
+  private class PartitionedObjectIterator implements Iterator<Result<Item>> {
+    private final ListObjectsArgs args;
+    private final int prefetchPages;
+    private final List<ListingPartition> partitions = new ArrayList<>();
+    // partition of every fetched page in fetch order; used only in unordered listing.
+    private final BlockingQueue<ListingPartition> fetchedPages = new LinkedBlockingQueue<>();
+    private boolean started;
+    private int partitionIndex;
+    private int activePartitions;
+    private Iterator<Item> itemIterator;
+    private Result<Item> error;
+    private boolean completed;
+
+    private PartitionedObjectIterator(ListObjectsArgs args) {
+      this.args = args;
+      this.prefetchPages = Math.max(args.prefetchPages(), 1);
+    }
+
+    private void start()
+        throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+            InternalException, InvalidBucketNameException, InvalidKeyException,
+            InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+            XmlParserException {
+      String lowerBound = args.startAfter();
+      for (String boundary : partitionBoundaries(args)) {
+        partitions.add(new ListingPartition(lowerBound, boundary));
+        lowerBound = boundary;
+      }
+      partitions.add(new ListingPartition(lowerBound, null));
+
+      activePartitions = partitions.size();
+      for (ListingPartition partition : partitions) {
+        fetchAhead(partition);
+      }
+    }
+
+    /**
+     * Schedules fetches of next page and up to prefetch pages after it of given partition. Fetch of
+     * a page waits for its previous page and gives null if the previous page is the last one.
+     */
+    private void fetchAhead(ListingPartition partition) {
+      while (partition.pages.size() <= prefetchPages) {
+        final Future<ListBucketResultV2> previousPage = partition.lastPage;
+        partition.lastPage =
+            executorService()
+                .submit(
+                    () -> {
+                      try {
+                        if (previousPage == null) {
+                          return fetchPage(partition, null);
+                        }
+
+                        ListBucketResultV2 previous = previousPage.get();
+                        if (previous == null
+                            || !previous.isTruncated()
+                            || partition.isPast(previous)) {
+                          return null;
+                        }
+                        return fetchPage(partition, previous.nextContinuationToken());
+                      } finally {
+                        if (args.unordered()) {
+                          fetchedPages.add(partition);
+                        }
+                      }
+                    });
+        partition.pages.add(partition.lastPage);
+      }
+    }
+
+    private ListBucketResultV2 fetchPage(ListingPartition partition, String continuationToken)
+        throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+            InternalException, InvalidBucketNameException, InvalidKeyException,
+            InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+            XmlParserException {
+      return listObjectsV2(
+          args.bucket(),
+          args.region(),
+          "",
+          args.useUrlEncodingType(),
+          partition.lowerBound,
+          args.maxKeys(),
+          args.prefix(),
+          continuationToken,
+          args.fetchOwner(),
+          args.includeUserMetadata(),
+          args.extraHeaders(),
+          args.extraQueryParams());
+    }
+
+    /** Returns partition to read next page from; null if all partitions are read. */
+    private ListingPartition nextPartition() throws InterruptedException {
+      if (!args.unordered()) {
+        while (partitionIndex < partitions.size() && partitions.get(partitionIndex).completed) {
+          partitionIndex++;
+        }
+        return partitionIndex < partitions.size() ? partitions.get(partitionIndex) : null;
+      }
+
+      // Pages of a partition are fetched in order, so next page of taken partition is fetched.
+      while (activePartitions > 0) {
+        ListingPartition partition = fetchedPages.take();
+        if (!partition.completed) {
+          return partition;
+        }
+      }
+      return null;
+    }
+
+    private void populateResult()
+        throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+            InternalException, InvalidBucketNameException, InvalidKeyException,
+            InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+            XmlParserException {
+      itemIterator = null;
+      if (!started) {
+        started = true;
+        start();
+      }
+
+      try {
+        ListingPartition partition;
+        while ((partition = nextPartition()) != null) {
+          ListBucketResultV2 page = partition.pages.remove().get();
+          if (page == null) {
+            partition.completed = true;
+            activePartitions--;
+            continue;
+          }
+
+          fetchAhead(partition);
+          List<Item> items = partition.items(page);
+          if (!items.isEmpty()) {
+            itemIterator = items.iterator();
+            return;
+          }
+        }
+      } catch (ExecutionException | InterruptedException | RuntimeException e) {
+        cancel();
+        throw taskFailure(e);
+      }
+    }
+
+    private void cancel() {
+      for (ListingPartition partition : partitions) {
+        for (Future<ListBucketResultV2> page : partition.pages) {
+          page.cancel(true);
+        }
+        partition.pages.clear();
+        partition.completed = true;
+      }
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+      if (completed) {
+        return false;
+      }
+
+      if (error == null && (itemIterator == null || !itemIterator.hasNext())) {
+        try {
+          populateResult();
+        } catch (ErrorResponseException
+            | IllegalArgumentException
+            | InsufficientDataException
+            | InternalException
+            | InvalidBucketNameException
+            | InvalidKeyException
+            | InvalidResponseException
+            | IOException
+            | NoSuchAlgorithmException
+            | ServerException
+            | XmlParserException e) {
+          error = new Result<>(e);
+        }
       }
 
-      if (this.prefixIterator.hasNext()) {
+      if (error != null || itemIterator != null) {
         return true;
       }
 
-      this.completed = true;
+      completed = true;
       return false;
     }
 
     @Override
-    public Result<Item> next() {
-      if (this.completed) {
+    public synchronized Result<Item> next() {
+      if (!hasNext()) {
         throw new NoSuchElementException();
       }
 
-      if (this.error == null
-          && this.itemIterator == null
-          && this.deleteMarkerIterator == null
-          && this.prefixIterator == null) {
-        populate();
+      if (error != null) {
+        completed = true;
+        return error;
       }
 
-      if (this.error == null
-          && !this.itemIterator.hasNext()
-          && !this.deleteMarkerIterator.hasNext()
-          && !this.prefixIterator.hasNext()
-          && this.listObjectsResult.isTruncated()) {
-        populate();
-      }
+      return new Result<>(itemIterator.next());
+    }
 
-      if (this.error != null) {
-        this.completed = true;
-        return this.error;
-      }
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+  }
 
-      if (this.itemIterator.hasNext()) {
-        Item item = this.itemIterator.next();
-        this.lastObjectName = item.objectName();
-        return new Result<>(item);
+  /**
+   * Returns boundaries splitting keyspace of given recursive listing into up to parallel partitions
+   * of arguments. Candidates are names in first page of the listing delimited by '/' i.e. common
+   * prefixes and objects at top level of the prefix. If they are fewer than partitions or do not
+   * cover the whole top level, first objects after split points sampled over next character of the
+   * prefix are added. Boundaries are picked from candidates evenly.
+   */
+  private List<String> partitionBoundaries(ListObjectsArgs args)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    int partitions = args.parallelPartitions();
+    String startAfter = args.startAfter();
+    List<String> candidates = new ArrayList<>();
+    ListBucketResultV2 result =
+        listObjectsV2(
+            args.bucket(),
+            args.region(),
+            "/",
+            args.useUrlEncodingType(),
+            startAfter,
+            1000,
+            args.prefix(),
+            null,
+            false,
+            false,
+            args.extraHeaders(),
+            args.extraQueryParams());
+    // Boundaries are passed as start-after, so they are kept decoded.
+    for (Item item : result.contents()) {
+      candidates.add(decodeKey(item.objectName(), result.useUrlEncodingType()));
+    }
+    for (Prefix prefix : result.commonPrefixes()) {
+      candidates.add(decodeKey(prefix.toItem().objectName(), result.useUrlEncodingType()));
+    }
+
+    if (result.isTruncated() || candidates.size() < partitions) {
+      List<Future<ListBucketResultV2>> samples = new ArrayList<>();
+      int points =
+          Math.min(partitions * SAMPLES_PER_PARTITION, LAST_SAMPLE_CHAR - FIRST_SAMPLE_CHAR);
+      for (int i = 0; i < points; i++) {
+        final String point =
+            args.prefix()
+                + (char) (FIRST_SAMPLE_CHAR + i * (LAST_SAMPLE_CHAR - FIRST_SAMPLE_CHAR) / points);
+        if (startAfter != null && compareKeys(point, startAfter) <= 0) {
+          continue;
+        }
+
+        samples.add(
+            executorService()
+                .submit(
+                    () ->
+                        listObjectsV2(
+                            args.bucket(),
+                            args.region(),
+                            "",
+                            args.useUrlEncodingType(),
+                            point,
+                            1,
+                            args.prefix(),
+                            null,
+                            false,
+                            false,
+                            args.extraHeaders(),
+                            args.extraQueryParams())));
       }
 
-      if (this.deleteMarkerIterator.hasNext()) {
-        return new Result<>(this.deleteMarkerIterator.next());
+      try {
+        for (Future<ListBucketResultV2> sample : samples) {
+          ListBucketResultV2 page = sample.get();
+          for (Item item : page.contents()) {
+            candidates.add(decodeKey(item.objectName(), page.useUrlEncodingType()));
+          }
+        }
+      } catch (ExecutionException | InterruptedException | RuntimeException e) {
+        for (Future<ListBucketResultV2> sample : samples) {
+          sample.cancel(true);
+        }
+        throw taskFailure(e);
       }
+    }
 
-      if (this.prefixIterator.hasNext()) {
-        return new Result<>(this.prefixIterator.next().toItem());
+    TreeSet<String> keys = new TreeSet<>(MinioClient::compareKeys);
+    for (String candidate : candidates) {
+      if (startAfter == null || compareKeys(candidate, startAfter) > 0) {
+        keys.add(candidate);
       }
+    }
 
-      this.completed = true;
-      throw new NoSuchElementException();
+    List<String> sortedKeys = new ArrayList<>(keys);
+    if (sortedKeys.size() < partitions) {
+      return sortedKeys;
     }
 
-    @Override
-    public void remove() {
-      throw new UnsupportedOperationException();
+    List<String> boundaries = new ArrayList<>(partitions - 1);
+    for (int i = 1; i < partitions; i++) {
+      boundaries.add(sortedKeys.get(i * sortedKeys.size() / partitions));
     }
+    return boundaries;
   }
 
-  private Iterable<Result<Item>> listObjectsV2(ListObjectsArgs args) {
+  private Iterable<Result<Item>> listObjectsPartitioned(ListObjectsArgs args) {
     return new Iterable<Result<Item>>() {
       @Override
       public Iterator<Result<Item>> iterator() {
-        return new ObjectIterator() {
-          private ListBucketResultV2 result = null;
+        return new PartitionedObjectIterator(args);
+      }
+    };
+  }
 
+  private Iterable<Result<Item>> listObjectsV2(ListObjectsArgs args) {
+    return new Iterable<Result<Item>>() {
+      @Override
+      public Iterator<Result<Item>> iterator() {
+        return new ObjectIterator(args) {
           @Override
-          protected void populateResult()
+          protected ListObjectsResult fetchResult(ListObjectsResult previous)
               throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
                   InternalException, InvalidBucketNameException, InvalidKeyException,
                   InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
                   XmlParserException {
-            this.listObjectsResult = null;
-            this.itemIterator = null;
-            this.prefixIterator = null;
-
-            result =
-                listObjectsV2(
-                    args.bucket(),
-                    args.region(),
-                    args.delimiter(),
-                    args.useUrlEncodingType(),
-                    args.startAfter(),
-                    args.maxKeys(),
-                    args.prefix(),
-                    (result == null) ? args.continuationToken() : result.nextContinuationToken(),
-                    args.fetchOwner(),
-                    args.includeUserMetadata(),
-                    args.extraHeaders(),
-                    args.extraQueryParams());
-            this.listObjectsResult = result;
+            ListBucketResultV2 result = (ListBucketResultV2) previous;
+            return listObjectsV2(
+                args.bucket(),
+                args.region(),
+                args.delimiter(),
+                args.useUrlEncodingType(),
+                args.startAfter(),
+                args.maxKeys(),
+                args.prefix(),
+                (result == null) ? args.continuationToken() : result.nextContinuationToken(),
+                args.fetchOwner(),
+                args.includeUserMetadata(),
+                args.extraHeaders(),
+                args.extraQueryParams());
           }
         };
       }
@@ -3263,36 +5155,29 @@ public class MinioClient {
     return new Iterable<Result<Item>>() {
       @Override
       public Iterator<Result<Item>> iterator() {
-        return new ObjectIterator() {
-          private ListBucketResultV1 result = null;
-
+        return new ObjectIterator(args) {
           @Override
-          protected void populateResult()
+          protected ListObjectsResult fetchResult(ListObjectsResult previous)
               throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
                   InternalException, InvalidBucketNameException, InvalidKeyException,
                   InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
                   XmlParserException {
-            this.listObjectsResult = null;
-            this.itemIterator = null;
-            this.prefixIterator = null;
-
+            ListBucketResultV1 result = (ListBucketResultV1) previous;
             String nextMarker = (result == null) ? args.marker() : result.nextMarker();
-            if (nextMarker == null) {
-              nextMarker = this.lastObjectName;
+            if (nextMarker == null && result != null) {
+              nextMarker = lastObjectName(result);
             }
 
-            result =
-                listObjectsV1(
-                    args.bucket(),
-                    args.region(),
-                    args.delimiter(),
-                    args.useUrlEncodingType(),
-                    nextMarker,
-                    args.maxKeys(),
-                    args.prefix(),
-                    args.extraHeaders(),
-                    args.extraQueryParams());
-            this.listObjectsResult = result;
+            return listObjectsV1(
+                args.bucket(),
+                args.region(),
+                args.delimiter(),
+                args.useUrlEncodingType(),
+                nextMarker,
+                args.maxKeys(),
+                args.prefix(),
+                args.extraHeaders(),
+                args.extraQueryParams());
           }
         };
       }
@@ -3303,32 +5188,25 @@ public class MinioClient {
     return new Iterable<Result<Item>>() {
       @Override
       public Iterator<Result<Item>> iterator() {
-        return new ObjectIterator() {
-          private ListVersionsResult result = null;
-
+        return new ObjectIterator(args) {
           @Override
-          protected void populateResult()
+          protected ListObjectsResult fetchResult(ListObjectsResult previous)
               throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
                   InternalException, InvalidBucketNameException, InvalidKeyException,
                   InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
                   XmlParserException {
-            this.listObjectsResult = null;
-            this.itemIterator = null;
-            this.prefixIterator = null;
-
-            result =
-                listObjectVersions(
-                    args.bucket(),
-                    args.region(),
-                    args.delimiter(),
-                    args.useUrlEncodingType(),
-                    (result == null) ? args.keyMarker() : result.nextKeyMarker(),
-                    args.maxKeys(),
-                    args.prefix(),
-                    (result == null) ? args.versionIdMarker() : result.nextVersionIdMarker(),
-                    args.extraHeaders(),
-                    args.extraQueryParams());
-            this.listObjectsResult = result;
+            ListVersionsResult result = (ListVersionsResult) previous;
+            return listObjectVersions(
+                args.bucket(),
+                args.region(),
+                args.delimiter(),
+                args.useUrlEncodingType(),
+                (result == null) ? args.keyMarker() : result.nextKeyMarker(),
+                args.maxKeys(),
+                args.prefix(),
+                (result == null) ? args.versionIdMarker() : result.nextVersionIdMarker(),
+                args.extraHeaders(),
+                args.extraQueryParams());
           }
         };
       }
@@ -4452,50 +6330,468 @@ public class MinioClient {
    * @throws XmlParserException thrown to indicate XML parsing error.
    * @deprecated use {@link #removeBucket(RemoveBucketArgs)}
    */
-  @Deprecated
-  public void removeBucket(String bucketName)
+  @Deprecated
+  public void removeBucket(String bucketName)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    this.removeBucket(RemoveBucketArgs.builder().bucket(bucketName).build());
+  }
+
+  /**
+   * Removes an empty bucket using arguments
+   *
+   * <pre>Example:{@code
+   * minioClient.removeBucket(RemoveBucketArgs.builder().bucket("my-bucketname").build());
+   * }</pre>
+   *
+   * @param args {@link RemoveBucketArgs} bucket.
+   * @throws ErrorResponseException thrown to indicate S3 service returned an error response.
+   * @throws IllegalArgumentException throws to indicate invalid argument passed.
+   * @throws InsufficientDataException thrown to indicate not enough data available in InputStream.
+   * @throws InternalException thrown to indicate internal library error.
+   * @throws InvalidBucketNameException thrown to indicate invalid bucket name passed.
+   * @throws InvalidKeyException thrown to indicate missing of HMAC SHA-256 library.
+   * @throws InvalidResponseException thrown to indicate S3 service returned invalid or no error
+   *     response.
+   * @throws IOException thrown to indicate I/O error on S3 operation.
+   * @throws NoSuchAlgorithmException thrown to indicate missing of MD5 or SHA-256 digest library.
+   * @throws XmlParserException thrown to indicate XML parsing error.
+   */
+  public void removeBucket(RemoveBucketArgs args)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    checkArgs(args);
+    executeDelete(args, null, null);
+  }
+
+  private ObjectWriteResponse putObject(
+      PutObjectBaseArgs args,
+      Object data,
+      long objectSize,
+      long partSize,
+      int partCount,
+      String contentType)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    Multimap<String, String> headers = HashMultimap.create();
+    headers.putAll(args.extraHeaders());
+    headers.putAll(args.genHeaders());
+    if (!headers.containsKey("Content-Type")) {
+      headers.put("Content-Type", contentType);
+    }
+
+    String uploadId = null;
+    long uploadedSize = 0L;
+    Part[] parts = null;
+
+    // Parts of stream are read into pooled buffer instead of being marked in the stream.
+    BufferedInputStream stream =
+        (data instanceof BufferedInputStream) ? (BufferedInputStream) data : null;
+    byte[] buf = null;
+    int reservedSize = 0;
+    try {
+      for (int partNumber = 1; partNumber <= partCount || partCount < 0; partNumber++) {
+        long availableSize = partSize;
+        if (partCount > 0) {
+          if (partNumber == partCount) {
+            availableSize = objectSize - uploadedSize;
+          }
+        } else if (partSize <= 0) {
+          availableSize = PartSizePlanner.streamPartSize(partNumber);
+        }
+
+        Object partData = data;
+        if (stream != null) {
+          if (buf == null || buf.length < availableSize) {
+            bufferPool.release(buf);
+            buf = null;
+            releaseMemory(reservedSize);
+            reservedSize = 0;
+            int bufferSize = BufferPool.sizeClass((int) availableSize);
+            reserveMemory(bufferSize);
+            reservedSize = bufferSize;
+            buf = bufferPool.acquireArray(bufferSize);
+          }
+
+          int size = ByteStreams.read(stream, buf, 0, (int) availableSize);
+          if (partCount > 0) {
+            if (size < availableSize) {
+              throw new InsufficientDataException(
+                  "Insufficient data.  bytes read " + size + " expected " + availableSize);
+            }
+          } else {
+            // Stream is at its last part if it is drained before filling the part.
+            stream.mark(1);
+            boolean eof = size < availableSize || stream.read() < 0;
+            stream.reset();
+            if (eof) {
+              partCount = partNumber;
+            }
+            availableSize = size;
+          }
+          partData = buf;
+        } else if (data instanceof FileRegion || data instanceof ByteBuffer) {
+          partData = slice(data, uploadedSize, (int) availableSize);
+        }
+
+        if (partCount == 1) {
+          return putObject(
+              args.bucket(),
+              args.region(),
+              args.object(),
+              partData,
+              (int) availableSize,
+              headers,
+              args.extraQueryParams(),
+              args.payloadPolicy());
+        }
+
+        if (uploadId == null) {
+          uploadId =
+              createMultipartUpload(
+                  args.bucket(), args.region(), args.object(), headers, args.extraQueryParams());
+          parts = new Part[ObjectWriteArgs.MAX_MULTIPART_COUNT];
+        }
+
+        Map<String, String> ssecHeaders = null;
+        // set encryption headers in the case of SSE-C.
+        if (args.sse() != null && args.sse().type() == ServerSideEncryption.Type.SSE_C) {
+          ssecHeaders = args.sse().headers();
+        }
+
+        String etag =
+            uploadPart(
+                args.bucket(),
+                args.object(),
+                partData,
+                (int) availableSize,
+                uploadId,
+                partNumber,
+                ssecHeaders,
+                partPayloadPolicy(args));
+        parts[partNumber - 1] = new Part(partNumber, etag);
+        uploadedSize += availableSize;
+      }
+
+      return completeMultipartUpload(
+          args.bucket(), args.region(), args.object(), uploadId, parts, null, null);
+    } catch (RuntimeException e) {
+      if (uploadId != null) {
+        abortMultipartUpload(args.bucket(), args.object(), uploadId);
+      }
+      throw e;
+    } catch (Exception e) {
+      if (uploadId != null) {
+        abortMultipartUpload(args.bucket(), args.object(), uploadId);
+      }
+      throw e;
+    } finally {
+      bufferPool.release(buf);
+      releaseMemory(reservedSize);
+    }
+  }
+
+  /**
+   * Uploads a file region or byte buffer by multipart upload with up to {@code parallelParts} parts
+   * in flight. Each part is its own slice of the data, so parts are independent of each other; if
+   * any part fails, remaining parts are cancelled and the multipart upload is aborted.
+   */
+  private ObjectWriteResponse putObjectParallel(
+      PutObjectBaseArgs args,
+      Object data,
+      long objectSize,
+      long partSize,
+      int partCount,
+      int parallelParts,
+      String contentType)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    String uploadId =
+        createMultipartUpload(
+            args.bucket(),
+            args.region(),
+            args.object(),
+            multipartHeaders(args, contentType),
+            args.extraQueryParams());
+    try {
+      Part[] parts = new Part[partCount];
+      uploadParts(
+          args, data, objectSize, partSize, partCount, parallelParts, uploadId, parts, null);
+      return completeMultipartUpload(
+          args.bucket(), args.region(), args.object(), uploadId, parts, null, null);
+    } catch (Exception e) {
+      abortMultipartUpload(args.bucket(), args.object(), uploadId, e);
+      throw e;
+    }
+  }
+
+  /**
+   * Uploads a file by multipart upload recording progress in journal file. If the journal belongs
+   * to an earlier attempt of the same upload, it is reconciled with parts already present on the
+   * server and only missing parts are uploaded. On failure, the multipart upload and the journal
+   * are kept for next attempt; on success, the journal is removed.
+   */
+  private ObjectWriteResponse putObjectResumable(
+      PutObjectBaseArgs args,
+      String filename,
+      String journalFilename,
+      long objectSize,
+      long partSize,
+      int partCount,
+      int parallelParts,
+      String contentType)
+      throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
+          InternalException, InvalidBucketNameException, InvalidKeyException,
+          InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
+          XmlParserException {
+    File journalFile = new File(journalFilename);
+    long lastModified = new File(filename).lastModified();
+    Part[] parts = new Part[partCount];
+
+    UploadJournal journal = UploadJournal.load(journalFile);
+    if (journal != null
+        && !journal.matches(args.bucket(), args.object(), objectSize, lastModified, partSize)) {
+      // Journal is of other upload or source file is modified; its parts are of no use.
+      if (journal.bucketName().equals(args.bucket())
+          && journal.objectName().equals(args.object())) {
+        try {
+          abortMultipartUpload(args.bucket(), args.object(), journal.uploadId());
+        } catch (ErrorResponseException e) {
+          if (e.errorResponse().errorCode() != ErrorCode.NO_SUCH_UPLOAD) {
+            throw e;
+          }
+        }
+      }
+      journal.delete();
+      journal = null;
+    }
+
+    if (journal != null) {
+      try {
+        reconcileParts(args, journal, objectSize, partSize, partCount, parts);
+      } catch (ErrorResponseException e) {
+        if (e.errorResponse().errorCode() != ErrorCode.NO_SUCH_UPLOAD) {
+          journal.close();
+          throw e;
+        }
+
+        // Upload is completed or aborted meanwhile; start over.
+        journal.delete();
+        journal = null;
+        Arrays.fill(parts, null);
+      }
+    }
+
+    if (journal == null) {
+      String uploadId =
+          createMultipartUpload(
+              args.bucket(),
+              args.region(),
+              args.object(),
+              multipartHeaders(args, contentType),
+              args.extraQueryParams());
+      journal =
+          UploadJournal.create(
+              journalFile,
+              args.bucket(),
+              args.object(),
+              uploadId,
+              objectSize,
+              lastModified,
+              partSize);
+    }
+
+    ObjectWriteResponse response;
+    try (RandomAccessFile file = new RandomAccessFile(filename, "r")) {
+      uploadParts(
+          args,
+          new FileRegion(file.getChannel(), 0, objectSize),
+          objectSize,
+          partSize,
+          partCount,
+          parallelParts,
+          journal.uploadId(),
+          parts,
+          journal);
+      response =
+          completeMultipartUpload(
+              args.bucket(), args.region(), args.object(), journal.uploadId(), parts, null, null);
+    } catch (RuntimeException e) {
+      journal.close();
+      throw e;
+    } catch (Exception e) {
+      journal.close();
+      throw e;
+    }
+
+    journal.delete();
+    return response;
+  }
+
+  /**
+   * Fills parts already uploaded in journaled multipart upload. A part listed by the server is
+   * taken only if its size is as expected and, when the journal has recorded it, its ETag matches
+   * the journal; otherwise the part is uploaded again.
+   */
+  private void reconcileParts(
+      ObjectWriteArgs args,
+      UploadJournal journal,
+      long objectSize,
+      long partSize,
+      int partCount,
+      Part[] parts)
       throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
           InternalException, InvalidBucketNameException, InvalidKeyException,
           InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
           XmlParserException {
-    this.removeBucket(RemoveBucketArgs.builder().bucket(bucketName).build());
+    Map<Integer, String> etags = journal.etags();
+    for (Result<Part> result : listObjectParts(args.bucket(), args.object(), journal.uploadId())) {
+      Part part = result.get();
+      int partNumber = part.partNumber();
+      if (partNumber < 1 || partNumber > partCount) {
+        continue;
+      }
+
+      long expectedSize =
+          (partNumber == partCount) ? (objectSize - (partNumber - 1) * partSize) : partSize;
+      String etag = etags.get(partNumber);
+      if (part.partSize() == expectedSize && (etag == null || etag.equals(part.etag()))) {
+        parts[partNumber - 1] = new Part(partNumber, part.etag());
+      }
+    }
   }
 
   /**
-   * Removes an empty bucket using arguments
-   *
-   * <pre>Example:{@code
-   * minioClient.removeBucket(RemoveBucketArgs.builder().bucket("my-bucketname").build());
-   * }</pre>
-   *
-   * @param args {@link RemoveBucketArgs} bucket.
-   * @throws ErrorResponseException thrown to indicate S3 service returned an error response.
-   * @throws IllegalArgumentException throws to indicate invalid argument passed.
-   * @throws InsufficientDataException thrown to indicate not enough data available in InputStream.
-   * @throws InternalException thrown to indicate internal library error.
-   * @throws InvalidBucketNameException thrown to indicate invalid bucket name passed.
-   * @throws InvalidKeyException thrown to indicate missing of HMAC SHA-256 library.
-   * @throws InvalidResponseException thrown to indicate S3 service returned invalid or no error
-   *     response.
-   * @throws IOException thrown to indicate I/O error on S3 operation.
-   * @throws NoSuchAlgorithmException thrown to indicate missing of MD5 or SHA-256 digest library.
-   * @throws XmlParserException thrown to indicate XML parsing error.
+   * Uploads parts of a file region or byte buffer not yet present in {@code parts} with up to
+   * {@code parallelParts} parts in flight. Uploaded parts are stored in {@code parts} and recorded
+   * in the journal if given. If any part fails, remaining parts are cancelled; the multipart upload
+   * is left as is.
    */
-  public void removeBucket(RemoveBucketArgs args)
+  private void uploadParts(
+      PutObjectBaseArgs args,
+      Object data,
+      long objectSize,
+      long partSize,
+      int partCount,
+      int parallelParts,
+      String uploadId,
+      Part[] parts,
+      UploadJournal journal)
       throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
           InternalException, InvalidBucketNameException, InvalidKeyException,
           InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException,
           XmlParserException {
-    checkArgs(args);
-    executeDelete(args, null, null);
+    // set encryption headers in the case of SSE-C.
+    final Map<String, String> ssecHeaders =
+        (args.sse() != null && args.sse().type() == ServerSideEncryption.Type.SSE_C)
+            ? args.sse().headers()
+            : null;
+
+    CompletionService<Part> completionService =
+        new ExecutorCompletionService<>(executorService());
+    List<Future<Part>> futures = new LinkedList<>();
+    try {
+      int nextPartNumber = 1;
+      int pendingParts = 0;
+      while (true) {
+        while (nextPartNumber <= partCount && pendingParts < parallelParts) {
+          final int partNumber = nextPartNumber++;
+          if (parts[partNumber - 1] != null) {
+            continue;
+          }
+
+          final long offset = (partNumber - 1) * partSize;
+          final int length =
+              (int) ((partNumber == partCount) ? (objectSize - offset) : partSize);
+          final Object partData = slice(data, offset, length);
+          futures.add(
+              completionService.submit(
+                  () -> {
+                    String etag =
+                        uploadPart(
+                            args.bucket(),
+                            args.object(),
+                            partData,
+                            length,
+                            uploadId,
+                            partNumber,
+                            ssecHeaders,
+                            partPayloadPolicy(args));
+                    if (journal != null) {
+                      journal.append(partNumber, etag);
+                    }
+                    return new Part(partNumber, etag);
+                  }));
+          pendingParts++;
+        }
+
+        if (pendingParts == 0) {
+          return;
+        }
+
+        Part part = completionService.take().get();
+        parts[part.partNumber() - 1] = part;
+        pendingParts--;
+      }
+    } catch (ExecutionException | InterruptedException | RuntimeException e) {
+      for (Future<Part> future : futures) {
+        future.cancel(true);
+      }
+      throw taskFailure(e);
+    }
   }
 
-  private ObjectWriteResponse putObject(
-      ObjectWriteArgs args,
-      Object data,
+  /**
+   * Returns part of given offset and length of random access data; a file region is sliced to a
+   * region of same channel and a byte buffer to a buffer sharing its content.
+   */
+  private static Object slice(Object data, long offset, int length) {
+    if (data instanceof FileRegion) {
+      return ((FileRegion) data).slice(offset, length);
+    }
+
+    ByteBuffer buffer = ((ByteBuffer) data).duplicate();
+    int position = buffer.position() + (int) offset;
+    buffer.limit(position + length);
+    buffer.position(position);
+    return buffer.slice();
+  }
+
+  /** Returns payload policy of parts of multipart upload. */
+  private static PayloadPolicy partPayloadPolicy(PutObjectBaseArgs args) {
+    return (args.payloadPolicy() != null) ? args.payloadPolicy().partPolicy() : null;
+  }
+
+  private Multimap<String, String> multipartHeaders(ObjectWriteArgs args, String contentType) {
+    Multimap<String, String> headers = HashMultimap.create();
+    headers.putAll(args.extraHeaders());
+    headers.putAll(args.genHeaders());
+    if (!headers.containsKey("Content-Type")) {
+      headers.put("Content-Type", contentType);
+    }
+    return headers;
+  }
+
+  /**
+   * Uploads a stream by multipart upload with up to {@code parallelParts} parts in flight. Next
+   * part is read into a free part buffer while previous parts are being sent, so at most {@code
+   * parallelParts} buffers of {@code partSize} are held at any time.
+   */
+  private ObjectWriteResponse putObjectPipelined(
+      PutObjectBaseArgs args,
+      BufferedInputStream stream,
       long objectSize,
       long partSize,
       int partCount,
+      int parallelParts,
       String contentType)
       throws ErrorResponseException, IllegalArgumentException, InsufficientDataException,
           InternalException, InvalidBucketNameException, InvalidKeyException,
@@ -4508,26 +6804,94 @@ public class MinioClient {
       headers.put("Content-Type", contentType);
     }
 
-    String uploadId = null;
-    long uploadedSize = 0L;
-    Part[] parts = null;
+    // set encryption headers in the case of SSE-C.
+    final Map<String, String> ssecHeaders =
+        (args.sse() != null && args.sse().type() == ServerSideEncryption.Type.SSE_C)
+            ? args.sse().headers()
+            : null;
 
+    final BlockingQueue<byte[]> freeBuffers = new ArrayBlockingQueue<>(parallelParts);
+    int allocatedBuffers = 0;
+    byte[] heldBuffer = null; // buffer taken but not yet given to a part upload.
+    int bufferSize = 0;
+    long reservedSize = 0;
+    String uploadId = null;
+    long uploadedSize = 0;
+    Part[] parts = new Part[ObjectWriteArgs.MAX_MULTIPART_COUNT];
+    CompletionService<Part> completionService =
+        new ExecutorCompletionService<>(executorService());
+    // Buffer of each submitted part is held next to its future until the part task claims it.
+    Map<Future<Part>, AtomicReference<byte[]>> futures = new LinkedHashMap<>();
+    int completedParts = 0;
     try {
       for (int partNumber = 1; partNumber <= partCount || partCount < 0; partNumber++) {
-        long availableSize = partSize;
+        if (partNumber > ObjectWriteArgs.MAX_MULTIPART_COUNT) {
+          throw new IllegalArgumentException(
+              "stream needs more than " + ObjectWriteArgs.MAX_MULTIPART_COUNT + " parts");
+        }
+
+        int expectedSize =
+            (int) ((partSize > 0) ? partSize : PartSizePlanner.streamPartSize(partNumber));
+        if (partCount > 0 && partNumber == partCount) {
+          expectedSize = (int) (objectSize - uploadedSize);
+        }
+
+        // Part sizes grow for streams of unknown length; drop outgrown buffers once parts in
+        // flight are done, so that new buffers are reserved without holding old ones.
+        if (allocatedBuffers > 0 && bufferSize < expectedSize) {
+          while (completedParts < futures.size()) {
+            Part part = completionService.take().get();
+            parts[part.partNumber() - 1] = part;
+            completedParts++;
+          }
+          for (byte[] buf = freeBuffers.poll(); buf != null; buf = freeBuffers.poll()) {
+            bufferPool.release(buf);
+          }
+          releaseMemory(reservedSize);
+          reservedSize = 0;
+          allocatedBuffers = 0;
+        }
+
+        // Take a free buffer, waiting for an in-flight part to finish if all buffers are busy.
+        // Only first buffer waits for memory budget; others are allocated while budget allows,
+        // otherwise parts wait for buffers of parts in flight.
+        byte[] buf = freeBuffers.poll();
+        if (buf == null && allocatedBuffers < parallelParts) {
+          boolean reserved;
+          if (allocatedBuffers == 0) {
+            bufferSize = BufferPool.sizeClass(expectedSize);
+            reserveMemory(bufferSize);
+            reserved = true;
+          } else {
+            reserved = tryReserveMemory(bufferSize);
+          }
+          if (reserved) {
+            reservedSize += bufferSize;
+            buf = bufferPool.acquireArray(bufferSize);
+            allocatedBuffers++;
+          }
+        }
+        while (buf == null) {
+          Part part = completionService.take().get();
+          parts[part.partNumber() - 1] = part;
+          completedParts++;
+          buf = freeBuffers.poll();
+        }
+        heldBuffer = buf;
+
+        int size = ByteStreams.read(stream, buf, 0, expectedSize);
         if (partCount > 0) {
-          if (partNumber == partCount) {
-            availableSize = objectSize - uploadedSize;
+          if (size < expectedSize) {
+            throw new InsufficientDataException(
+                "Insufficient data.  bytes read " + size + " expected " + expectedSize);
           }
         } else {
-          availableSize = getAvailableSize(data, partSize + 1);
-
-          // If availableSize is less or equal to partSize, then we have reached last
-          // part.
-          if (availableSize <= partSize) {
+          // Stream is at its last part if it is drained before filling the part.
+          stream.mark(1);
+          boolean eof = size < expectedSize || stream.read() < 0;
+          stream.reset();
+          if (eof) {
             partCount = partNumber;
-          } else {
-            availableSize = partSize;
           }
         }
 
@@ -4536,50 +6900,92 @@ public class MinioClient {
               args.bucket(),
               args.region(),
               args.object(),
-              data,
-              (int) availableSize,
+              buf,
+              size,
               headers,
-              args.extraQueryParams());
+              args.extraQueryParams(),
+              args.payloadPolicy());
         }
 
         if (uploadId == null) {
           uploadId =
               createMultipartUpload(
                   args.bucket(), args.region(), args.object(), headers, args.extraQueryParams());
-          parts = new Part[ObjectWriteArgs.MAX_MULTIPART_COUNT];
         }
 
-        Map<String, String> ssecHeaders = null;
-        // set encryption headers in the case of SSE-C.
-        if (args.sse() != null && args.sse().type() == ServerSideEncryption.Type.SSE_C) {
-          ssecHeaders = args.sse().headers();
-        }
+        final String finalUploadId = uploadId;
+        final AtomicReference<byte[]> partBuffer = new AtomicReference<>(buf);
+        final int partSizeRead = size;
+        final int finalPartNumber = partNumber;
+        futures.put(
+            completionService.submit(
+                () -> {
+                  byte[] partData = partBuffer.getAndSet(null);
+                  if (partData == null) {
+                    throw new CancellationException("part upload is cancelled");
+                  }
 
-        String etag =
-            uploadPart(
-                args.bucket(),
-                args.object(),
-                data,
-                (int) availableSize,
-                uploadId,
-                partNumber,
-                ssecHeaders);
-        parts[partNumber - 1] = new Part(partNumber, etag);
-        uploadedSize += availableSize;
+                  try {
+                    String etag =
+                        uploadPart(
+                            args.bucket(),
+                            args.object(),
+                            partData,
+                            partSizeRead,
+                            finalUploadId,
+                            finalPartNumber,
+                            ssecHeaders,
+                            partPayloadPolicy(args));
+                    return new Part(finalPartNumber, etag);
+                  } finally {
+                    freeBuffers.offer(partData);
+                  }
+                }),
+            partBuffer);
+        heldBuffer = null;
+        uploadedSize += size;
       }
 
-      return completeMultipartUpload(
-          args.bucket(), args.region(), args.object(), uploadId, parts, null, null);
-    } catch (RuntimeException e) {
-      if (uploadId != null) {
-        abortMultipartUpload(args.bucket(), args.object(), uploadId);
+      while (completedParts < partCount) {
+        Part part = completionService.take().get();
+        parts[part.partNumber() - 1] = part;
+        completedParts++;
       }
-      throw e;
+
+      return completeMultipartUpload(
+          args.bucket(),
+          args.region(),
+          args.object(),
+          uploadId,
+          Arrays.copyOf(parts, partCount),
+          null,
+          null);
     } catch (Exception e) {
+      for (Map.Entry<Future<Part>, AtomicReference<byte[]>> entry : futures.entrySet()) {
+        entry.getKey().cancel(true);
+        // Task of a part that has not started never runs to give back its buffer.
+        byte[] buf = entry.getValue().getAndSet(null);
+        if (buf != null) {
+          freeBuffers.offer(buf);
+        }
+      }
+      Throwable failure =
+          (e instanceof ExecutionException && e.getCause() != null) ? e.getCause() : e;
       if (uploadId != null) {
-        abortMultipartUpload(args.bucket(), args.object(), uploadId);
+        abortMultipartUpload(args.bucket(), args.object(), uploadId, failure);
       }
-      throw e;
+      throw taskFailure(failure);
+    } finally {
+      // Parts still in flight after failure are cancelled; wait for started parts to give back
+      // their buffers so that memory budget is not released while the buffers are still in use.
+      int busyBuffers = allocatedBuffers - ((heldBuffer != null) ? 1 : 0);
+      for (int i = 0; i < busyBuffers; i++) {
+        bufferPool.release(Uninterruptibles.takeUninterruptibly(freeBuffers));
+      }
+      if (heldBuffer != null) {
+        bufferPool.release(heldBuffer);
+      }
+      releaseMemory(reservedSize);
     }
   }
 
@@ -4708,6 +7114,23 @@ public class MinioClient {
    *             inputStream, size, -1)
    *         .sse(sse)
    *         .build());
+   *
+   * // Upload unknown sized input stream reading next part while up to four parts are sent.
+   * minioClient.putObject(
+   *     PutObjectArgs.builder().bucket("my-bucketname").object("my-objectname").stream(
+   *             inputStream, -1, 10485760)
+   *         .parallelParts(4)
+   *         .build());
+   *
+   * // Upload memory mapped file region sending four parts concurrently.
+   * try (FileChannel channel = FileChannel.open(Paths.get("my-backup.tar"))) {
+   *   MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+   *   minioClient.putObject(
+   *       PutObjectArgs.builder().bucket("my-bucketname").object("my-objectname").buffer(
+   *               buffer, -1)
+   *           .parallelParts(4)
+   *           .build());
+   * }
    * }</pre>
    *
    * @param args {@link PutObjectArgs} object.
@@ -4731,13 +7154,53 @@ public class MinioClient {
           XmlParserException {
     checkArgs(args);
     args.validateSse(this.baseUrl);
+    long partSize = args.partSize();
+    int partCount = args.partCount();
+    if (args.adaptivePartSize() && !args.explicitPartSize() && partCount > 1) {
+      partSize =
+          partSizePlanner.partSize(
+              args.objectSize(),
+              args.parallelParts(),
+              (memoryBudget == null) ? 0 : memoryBudget.maxBytes());
+      partCount = (int) ((args.objectSize() + partSize - 1) / partSize);
+    }
+
+    Object data = args.stream();
+    if (args.buffer() != null) {
+      data = args.buffer();
+    } else if (args.channel() != null) {
+      data = new FileRegion(args.channel(), args.channelPosition(), args.objectSize());
+    }
+
+    // Parts of buffer and channel are slices of them, so they are sent without part buffers.
+    if (!(data instanceof BufferedInputStream)) {
+      if (args.parallelParts() > 1 && partCount > 1) {
+        return putObjectParallel(
+            args,
+            data,
+            args.objectSize(),
+            partSize,
+            partCount,
+            args.parallelParts(),
+            args.contentType());
+      }
+
+      return putObject(args, data, args.objectSize(), partSize, partCount, args.contentType());
+    }
+
+    if (args.parallelParts() > 1 && (partCount < 0 || partCount > 1)) {
+      return putObjectPipelined(
+          args,
+          args.stream(),
+          args.objectSize(),
+          partSize,
+          partCount,
+          args.parallelParts(),
+          args.contentType());
+    }
+
     return putObject(
-        args,
-        args.stream(),
-        args.objectSize(),
-        args.partSize(),
-        args.partCount(),
-        args.contentType());
+        args, args.stream(), args.objectSize(), partSize, partCount, args.contentType());
   }
 
   /**
@@ -4757,6 +7220,24 @@ public class MinioClient {
    *         .filename("my-video.avi")
    *         .contentType("video/mp4")
    *         .build());
+   *
+   * // Upload a large file with four parts in flight.
+   * minioClient.uploadObject(
+   *     UploadObjectArgs.builder()
+   *         .bucket("my-bucketname")
+   *         .object("my-objectname")
+   *         .filename("my-backup.tar")
+   *         .parallelParts(4)
+   *         .build());
+   *
+   * // Upload a large file resumably; re-running after a failure uploads only missing parts.
+   * minioClient.uploadObject(
+   *     UploadObjectArgs.builder()
+   *         .bucket("my-bucketname")
+   *         .object("my-objectname")
+   *         .filename("my-backup.tar")
+   *         .journalFilename("my-backup.tar.upload")
+   *         .build());
    * }</pre>
    *
    * @param args {@link UploadObjectArgs} object.
@@ -4780,9 +7261,44 @@ public class MinioClient {
           XmlParserException {
     checkArgs(args);
     args.validateSse(this.baseUrl);
+    if (args.journalFilename() != null && args.partCount() > 1) {
+      return putObjectResumable(
+          args,
+          args.filename(),
+          args.journalFilename(),
+          args.objectSize(),
+          args.partSize(),
+          args.partCount(),
+          args.parallelParts(),
+          args.contentType());
+    }
+
+    // Resumable uploads keep the fixed part size as the journal is tied to it.
+    long partSize = args.partSize();
+    int partCount = args.partCount();
+    if (args.adaptivePartSize() && !args.explicitPartSize() && partCount > 1) {
+      partSize =
+          partSizePlanner.partSize(
+              args.objectSize(),
+              args.parallelParts(),
+              (memoryBudget == null) ? 0 : memoryBudget.maxBytes());
+      partCount = (int) ((args.objectSize() + partSize - 1) / partSize);
+    }
+
     try (RandomAccessFile file = new RandomAccessFile(args.filename(), "r")) {
-      return putObject(
-          args, file, args.objectSize(), args.partSize(), args.partCount(), args.contentType());
+      if (args.parallelParts() > 1 && partCount > 1) {
+        // All parts read positionally from one shared file channel.
+        return putObjectParallel(
+            args,
+            new FileRegion(file.getChannel(), 0, args.objectSize()),
+            args.objectSize(),
+            partSize,
+            partCount,
+            args.parallelParts(),
+            args.contentType());
+      }
+
+      return putObject(args, file, args.objectSize(), partSize, partCount, args.contentType());
     }
   }
 
@@ -6628,37 +9144,6 @@ public class MinioClient {
     executeDelete(args, null, queryParams);
   }
 
-  private long getAvailableSize(Object data, long expectedReadSize)
-      throws IOException, InternalException {
-    if (!(data instanceof BufferedInputStream)) {
-      throw new InternalException(
-          "data must be BufferedInputStream. This should not happen.  "
-              + "Please report to https://github.com/minio/minio-java/issues/");
-    }
-
-    BufferedInputStream stream = (BufferedInputStream) data;
-    stream.mark((int) expectedReadSize);
-
-    byte[] buf = new byte[16384]; // 16KiB buffer for optimization
-    long totalBytesRead = 0;
-    while (totalBytesRead < expectedReadSize) {
-      long bytesToRead = expectedReadSize - totalBytesRead;
-      if (bytesToRead > buf.length) {
-        bytesToRead = buf.length;
-      }
-
-      int bytesRead = stream.read(buf, 0, (int) bytesToRead);
-      if (bytesRead < 0) {
-        break; // reached EOF
-      }
-
-      totalBytesRead += bytesRead;
-    }
-
-    stream.reset();
-    return totalBytesRead;
-  }
-
   /**
    * Sets HTTP connect, write and read timeouts. A value of 0 means no timeout, otherwise values
    * must be between 1 and Integer.MAX_VALUE when converted to milliseconds.
@@ -6802,6 +9287,20 @@ public class MinioClient {
     this.useVirtualStyle = false;
   }
 
+  /**
+   * Enables streaming signature (STREAMING-AWS4-HMAC-SHA256-PAYLOAD) for object data uploads.
+   * Object data is sent in aws-chunked encoding and each chunk is hashed and signed while it is
+   * sent, instead of reading the data once more for hashing before the request.
+   */
+  public void enableStreamingSignature() {
+    this.streamingSignature = true;
+  }
+
+  /** Disables streaming signature for object data uploads. */
+  public void disableStreamingSignature() {
+    this.streamingSignature = false;
+  }
+
   private static class NotificationResultRecords {
     Response response = null;
     Scanner scanner = null;
@@ -6933,6 +9432,19 @@ public class MinioClient {
     response.close();
   }
 
+  /**
+   * Aborts multipart upload after given failure of the upload. Failure of the abort is added to
+   * given failure as suppressed, so that it does not mask the failure of the upload.
+   */
+  private void abortMultipartUpload(
+      String bucketName, String objectName, String uploadId, Throwable failure) {
+    try {
+      abortMultipartUpload(bucketName, objectName, uploadId);
+    } catch (Exception e) {
+      failure.addSuppressed(e);
+    }
+  }
+
   /**
    * Do <a
    * href="https://docs.aws.amazon.com/AmazonS3/latest/API/API_CompleteMultipartUpload.html">CompleteMultipartUpload
@@ -7266,7 +9778,7 @@ public class MinioClient {
             queryParams,
             null,
             0)) {
-      return Xml.unmarshal(ListBucketResultV2.class, response.body().charStream());
+      return ListResultParser.listBucketResultV2(response.body().byteStream()).result();
     }
   }
 
@@ -7303,7 +9815,7 @@ public class MinioClient {
             queryParams,
             null,
             0)) {
-      return Xml.unmarshal(ListBucketResultV1.class, response.body().charStream());
+      return ListResultParser.listBucketResultV1(response.body().byteStream()).result();
     }
   }
 
@@ -7345,7 +9857,7 @@ public class MinioClient {
             queryParams,
             null,
             0)) {
-      return Xml.unmarshal(ListVersionsResult.class, response.body().charStream());
+      return ListResultParser.listVersionsResult(response.body().byteStream()).result();
     }
   }
 
@@ -7423,12 +9935,30 @@ public class MinioClient {
       throws InvalidBucketNameException, IllegalArgumentException, NoSuchAlgorithmException,
           InsufficientDataException, IOException, InvalidKeyException, ServerException,
           XmlParserException, ErrorResponseException, InternalException, InvalidResponseException {
+    return putObject(
+        bucketName, region, objectName, data, length, headers, extraQueryParams, null);
+  }
+
+  private ObjectWriteResponse putObject(
+      String bucketName,
+      String region,
+      String objectName,
+      Object data,
+      int length,
+      Multimap<String, String> headers,
+      Multimap<String, String> extraQueryParams,
+      PayloadPolicy payloadPolicy)
+      throws InvalidBucketNameException, IllegalArgumentException, NoSuchAlgorithmException,
+          InsufficientDataException, IOException, InvalidKeyException, ServerException,
+          XmlParserException, ErrorResponseException, InternalException, InvalidResponseException {
     if (!(data instanceof BufferedInputStream
         || data instanceof RandomAccessFile
+        || data instanceof FileRegion
+        || data instanceof ByteBuffer
         || data instanceof byte[]
         || data instanceof CharSequence)) {
       throw new IllegalArgumentException(
-          "data must be BufferedInputStream, RandomAccessFile, byte[] or String");
+          "data must be BufferedInputStream, RandomAccessFile, ByteBuffer, byte[] or String");
     }
 
     try (Response response =
@@ -7440,7 +9970,8 @@ public class MinioClient {
             headers,
             extraQueryParams,
             data,
-            length)) {
+            length,
+            payloadPolicy)) {
       return new ObjectWriteResponse(
           response.headers(),
           bucketName,
@@ -7618,18 +10149,37 @@ public class MinioClient {
       throws InvalidBucketNameException, IllegalArgumentException, NoSuchAlgorithmException,
           InsufficientDataException, IOException, InvalidKeyException, ServerException,
           XmlParserException, ErrorResponseException, InternalException, InvalidResponseException {
+    return uploadPart(
+        bucketName, objectName, data, length, uploadId, partNumber, headerMap, null);
+  }
+
+  private String uploadPart(
+      String bucketName,
+      String objectName,
+      Object data,
+      int length,
+      String uploadId,
+      int partNumber,
+      Map<String, String> headerMap,
+      PayloadPolicy payloadPolicy)
+      throws InvalidBucketNameException, IllegalArgumentException, NoSuchAlgorithmException,
+          InsufficientDataException, IOException, InvalidKeyException, ServerException,
+          XmlParserException, ErrorResponseException, InternalException, InvalidResponseException {
     if (!(data instanceof BufferedInputStream
         || data instanceof RandomAccessFile
+        || data instanceof FileRegion
+        || data instanceof ByteBuffer
         || data instanceof byte[]
         || data instanceof CharSequence)) {
       throw new IllegalArgumentException(
-          "data must be BufferedInputStream, RandomAccessFile, byte[] or String");
+          "data must be BufferedInputStream, RandomAccessFile, ByteBuffer, byte[] or String");
     }
 
     Multimap<String, String> queryParams = HashMultimap.create();
     queryParams.put("partNumber", Integer.toString(partNumber));
     queryParams.put(UPLOAD_ID, uploadId);
 
+    long startTime = System.nanoTime();
     try (Response response =
         execute(
             Method.PUT,
@@ -7639,7 +10189,9 @@ public class MinioClient {
             (headerMap != null) ? Multimaps.forMap(headerMap) : null,
             queryParams,
             data,
-            length)) {
+            length,
+            payloadPolicy)) {
+      partSizePlanner.record(length, System.nanoTime() - startTime);
       return response.header("ETag").replaceAll("\"", "");
     }
   }
@@ -7705,6 +10257,12 @@ public class MinioClient {
     String accessKey;
     String secretKey;
     OkHttpClient httpClient;
+    ExecutorService executorService;
+    BufferPool bufferPool;
+    MemoryBudget memoryBudget;
+    ObjectCache objectCache;
+    MemoryObjectCache memoryObjectCache;
+    boolean coalesceRequests;
     boolean isAwsHost;
     boolean isAwsChinaHost;
     boolean isAcceleratedHost;
@@ -7955,6 +10513,72 @@ public class MinioClient {
       return this;
     }
 
+    /**
+     * Sets executor service used to run concurrent part transfers. If not set, a shared cached
+     * thread pool of daemon threads is created on first use.
+     */
+    public Builder executorService(ExecutorService executorService) {
+      validateNotNull(executorService, "executor service");
+      this.executorService = executorService;
+      return this;
+    }
+
+    /**
+     * Sets buffer pool used for part, hashing and transfer buffers. Pass same pool to many clients
+     * to share buffers among them. If not set, a heap {@link BufferPool} with default 8MiB cap is
+     * used, which keeps only buffers up to 5MiB; so only one part buffer of default part size is
+     * reused, and bigger or concurrent part buffers need a pool with bigger cap.
+     */
+    public Builder bufferPool(BufferPool bufferPool) {
+      validateNotNull(bufferPool, "buffer pool");
+      this.bufferPool = bufferPool;
+      return this;
+    }
+
+    /**
+     * Sets memory budget which part and transfer buffers are reserved from before they are
+     * allocated; transfers wait for memory released by others when the budget is exhausted. Pass
+     * same budget to many clients to bound their buffered memory together. If not set, buffered
+     * memory is not bounded.
+     */
+    public Builder memoryBudget(MemoryBudget memoryBudget) {
+      validateNotNull(memoryBudget, "memory budget");
+      this.memoryBudget = memoryBudget;
+      return this;
+    }
+
+    /**
+     * Sets on-disk cache of whole-object reads by {@link #getObject(GetObjectArgs)}; see {@link
+     * ObjectCache}. If not set, object data is not cached.
+     */
+    public Builder objectCache(ObjectCache objectCache) {
+      validateNotNull(objectCache, "object cache");
+      this.objectCache = objectCache;
+      return this;
+    }
+
+    /**
+     * Sets in-memory cache of small objects read by {@link #getObject(GetObjectArgs)}; see {@link
+     * MemoryObjectCache}. It is looked up before object cache. If not set, object data is not
+     * cached in memory.
+     */
+    public Builder memoryObjectCache(MemoryObjectCache memoryObjectCache) {
+      validateNotNull(memoryObjectCache, "memory object cache");
+      this.memoryObjectCache = memoryObjectCache;
+      return this;
+    }
+
+    /**
+     * Sets whether concurrent identical GET and HEAD requests i.e. of same method, URL, range and
+     * conditional headers share one in-flight call. Response body up to 1MiB is buffered and each
+     * caller reads its own copy; callers of a request with bigger body make their own call. Default
+     * is false.
+     */
+    public Builder coalesceRequests(boolean coalesceRequests) {
+      this.coalesceRequests = coalesceRequests;
+      return this;
+    }
+
     public MinioClient build() {
       validateNotNull(baseUrl, "endpoint");
       if (isAwsChinaHost && regionInUrl == null && region == null) {
@@ -7989,7 +10613,13 @@ public class MinioClient {
           useVirtualStyle,
           accessKey,
           secretKey,
-          httpClient);
+          httpClient,
+          executorService,
+          (bufferPool != null) ? bufferPool : new BufferPool(),
+          memoryBudget,
+          objectCache,
+          memoryObjectCache,
+          coalesceRequests ? new RequestCoalescer() : null);
     }
   }
 }
@@ -0,0 +1,494 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import com.google.common.hash.Hashing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Headers;
+
+/**
+ * Size-bounded on-disk cache of object data used by {@link MinioClient#getObject(GetObjectArgs)}.
+ * Whole-object reads are cached by endpoint, access key, bucket, object and version ID along with
+ * their response headers, so one cache directory may be shared by clients of different endpoints
+ * and users. Least recently used objects are evicted when cached data exceeds given bytes. A cached
+ * object is revalidated by conditional GET with If-None-Match of its ETag, and is served from disk
+ * if the object is not modified. Within max-stale time after its last validation, a cached object
+ * is served without any request. Object data is written to the cache as the caller reads it, and
+ * is added only when all of it is read.
+ *
+ * <pre>Example:{@code
+ * MinioClient minioClient =
+ *     MinioClient.builder()
+ *         .endpoint("https://play.min.io")
+ *         .credentials("Q3AM3UQ867SPQQA43P2F", "zuf+tfteSlswRu7BJ86wekitnifILbZam1KYY3TG")
+ *         .objectCache(
+ *             new ObjectCache(
+ *                 new File("/var/cache/minio"), 1024L * 1024 * 1024, 5, TimeUnit.MINUTES))
+ *         .build();
+ * }</pre>
+ */
+public class ObjectCache {
+  private static final int MAGIC = 0x4d4f4331; // "MOC1"
+  private static final String DATA_SUFFIX = ".data";
+  private static final String META_SUFFIX = ".meta";
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private final File directory;
+  private final long maxBytes;
+  private final long maxStaleMillis;
+  // entries in access order i.e. least recently used entry first.
+  private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long bytes;
+  private long hits;
+  private long revalidations;
+  private long misses;
+
+  /** Cached object. */
+  static class Entry {
+    private final String key;
+    private final String name;
+    private final Headers headers;
+    private final String etag;
+    private final long length;
+    private long validatedTime;
+
+    private Entry(String key, String name, Headers headers, long length, long validatedTime) {
+      this.key = key;
+      this.name = name;
+      this.headers = headers;
+      String etag = headers.get("ETag");
+      this.etag = (etag != null) ? etag.replaceAll("\"", "") : "";
+      this.length = length;
+      this.validatedTime = validatedTime;
+    }
+
+    Headers headers() {
+      return headers;
+    }
+
+    String etag() {
+      return etag;
+    }
+  }
+
+  /** Creates cache in given directory bounded to given bytes, revalidating every cached read. */
+  public ObjectCache(File directory, long maxBytes) throws IOException {
+    this(directory, maxBytes, 0, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Creates cache in given directory bounded to given bytes. Cached objects are served without
+   * revalidation within given max-stale time after their last validation. Objects cached in the
+   * directory earlier are loaded.
+   */
+  public ObjectCache(File directory, long maxBytes, long maxStale, TimeUnit unit)
+      throws IOException {
+    if (directory == null) {
+      throw new IllegalArgumentException("directory must not be null");
+    }
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("cache size must be greater than zero");
+    }
+    if (maxStale < 0) {
+      throw new IllegalArgumentException("max stale must not be negative");
+    }
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("unable to create cache directory " + directory);
+    }
+
+    this.directory = directory;
+    this.maxBytes = maxBytes;
+    this.maxStaleMillis = unit.toMillis(maxStale);
+    load();
+  }
+
+  public File directory() {
+    return directory;
+  }
+
+  public long maxBytes() {
+    return maxBytes;
+  }
+
+  /** Returns bytes of cached object data. */
+  public synchronized long bytes() {
+    return bytes;
+  }
+
+  /** Returns number of reads served from the cache without a request. */
+  public synchronized long hits() {
+    return hits;
+  }
+
+  /** Returns number of reads served from the cache after the object is found not modified. */
+  public synchronized long revalidations() {
+    return revalidations;
+  }
+
+  /** Returns number of reads which fetched object data. */
+  public synchronized long misses() {
+    return misses;
+  }
+
+  /** Removes all cached objects. */
+  public synchronized void clear() {
+    for (Entry entry : entries.values()) {
+      deleteFiles(entry.name);
+    }
+    entries.clear();
+    bytes = 0;
+  }
+
+  /**
+   * Returns scope of cache keys of client of given endpoint and access key. Access key is hashed,
+   * so that it is not written to cache files.
+   */
+  static String scope(String endpoint, String accessKey) {
+    if (accessKey == null) {
+      return endpoint;
+    }
+    return endpoint + " " + Hashing.sha256().hashString(accessKey, StandardCharsets.UTF_8);
+  }
+
+  /** Returns cache key of given object in given scope. */
+  static String key(String scope, String bucketName, String objectName, String versionId) {
+    return scope
+        + " "
+        + bucketName
+        + "/"
+        + objectName
+        + ((versionId != null) ? "?versionId=" + versionId : "");
+  }
+
+  /** Returns cached entry of given key; null if not cached. */
+  synchronized Entry get(String key) {
+    return entries.get(key);
+  }
+
+  /** Returns whether given entry is validated within max-stale time. */
+  synchronized boolean isFresh(Entry entry) {
+    return maxStaleMillis > 0 && System.currentTimeMillis() - entry.validatedTime <= maxStaleMillis;
+  }
+
+  /**
+   * Opens cached data of given entry and counts a hit or, if revalidated, a revalidation. Returns
+   * null if the data is gone meanwhile.
+   */
+  InputStream open(Entry entry, boolean revalidated) throws IOException {
+    InputStream stream;
+    try {
+      stream = new FileInputStream(new File(directory, entry.name + DATA_SUFFIX));
+    } catch (FileNotFoundException e) {
+      remove(entry);
+      return null;
+    }
+
+    synchronized (this) {
+      if (revalidated) {
+        entry.validatedTime = System.currentTimeMillis();
+        revalidations++;
+      } else {
+        hits++;
+      }
+    }
+    if (revalidated) {
+      try {
+        writeMeta(entry);
+      } catch (IOException e) {
+        // Validation time is kept in memory; on reload the object is just revalidated earlier.
+      }
+    }
+    return stream;
+  }
+
+  /**
+   * Returns stream of given response body which writes read data to the cache as well; the object
+   * is added when all of its data is read. Objects of unknown length or bigger than the cache are
+   * not cached.
+   */
+  InputStream cache(String key, Headers headers, InputStream body) {
+    synchronized (this) {
+      misses++;
+    }
+
+    String value = headers.get("Content-Length");
+    long length = (value != null) ? Long.parseLong(value) : -1;
+    if (length < 0 || length > maxBytes) {
+      return body;
+    }
+
+    String name = Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString();
+    File temp = null;
+    try {
+      temp = File.createTempFile(name, TEMP_SUFFIX, directory);
+      return new CachingInputStream(body, new Entry(key, name, headers, length, 0), temp);
+    } catch (IOException e) {
+      // Caching is best effort; object data is read without caching it.
+      if (temp != null) {
+        temp.delete();
+      }
+      return body;
+    }
+  }
+
+  private synchronized void remove(Entry entry) {
+    if (entries.get(entry.key) == entry) {
+      entries.remove(entry.key);
+      bytes -= entry.length;
+      deleteFiles(entry.name);
+    }
+  }
+
+  /** Adds entry of completely written data file, evicting least recently used entries. */
+  private void add(Entry entry, File temp) throws IOException {
+    entry.validatedTime = System.currentTimeMillis();
+    synchronized (this) {
+      Entry previous = entries.remove(entry.key);
+      if (previous != null) {
+        bytes -= previous.length;
+      }
+
+      File data = new File(directory, entry.name + DATA_SUFFIX);
+      if (!temp.renameTo(data)) {
+        deleteFiles(entry.name);
+        temp.delete();
+        return;
+      }
+      writeMeta(entry);
+      entries.put(entry.key, entry);
+      bytes += entry.length;
+
+      Iterator<Entry> iterator = entries.values().iterator();
+      while (bytes > maxBytes && iterator.hasNext()) {
+        Entry eldest = iterator.next();
+        if (eldest == entry) {
+          continue;
+        }
+        iterator.remove();
+        bytes -= eldest.length;
+        deleteFiles(eldest.name);
+      }
+    }
+  }
+
+  private void deleteFiles(String name) {
+    new File(directory, name + META_SUFFIX).delete();
+    new File(directory, name + DATA_SUFFIX).delete();
+  }
+
+  private void writeMeta(Entry entry) throws IOException {
+    ByteArrayOutputStream meta = new ByteArrayOutputStream();
+    DataOutputStream dos = new DataOutputStream(meta);
+    dos.writeInt(MAGIC);
+    dos.writeUTF(entry.key);
+    dos.writeLong(entry.length);
+    dos.writeLong(entry.validatedTime);
+    dos.writeInt(entry.headers.size());
+    for (int i = 0; i < entry.headers.size(); i++) {
+      dos.writeUTF(entry.headers.name(i));
+      dos.writeUTF(entry.headers.value(i));
+    }
+    dos.flush();
+
+    File temp = File.createTempFile(entry.name, TEMP_SUFFIX, directory);
+    try (FileOutputStream fos = new FileOutputStream(temp)) {
+      fos.write(meta.toByteArray());
+    }
+    if (!temp.renameTo(new File(directory, entry.name + META_SUFFIX))) {
+      temp.delete();
+      throw new IOException("unable to write cache metadata of " + entry.key);
+    }
+  }
+
+  /**
+   * Loads entries of cached objects in the directory, oldest data first. Left over temporary files
+   * and data without valid metadata are removed.
+   */
+  private void load() throws IOException {
+    File[] files = directory.listFiles();
+    if (files == null) {
+      throw new IOException("unable to list cache directory " + directory);
+    }
+
+    List<File> dataFiles = new ArrayList<>();
+    for (File file : files) {
+      if (file.getName().endsWith(TEMP_SUFFIX)) {
+        file.delete();
+      } else if (file.getName().endsWith(DATA_SUFFIX)) {
+        dataFiles.add(file);
+      }
+    }
+    Collections.sort(dataFiles, (f1, f2) -> Long.compare(f1.lastModified(), f2.lastModified()));
+
+    for (File data : dataFiles) {
+      String fileName = data.getName();
+      String name = fileName.substring(0, fileName.length() - DATA_SUFFIX.length());
+      Entry entry = readMeta(name);
+      if (entry == null || entry.length != data.length()) {
+        deleteFiles(name);
+        continue;
+      }
+      entries.put(entry.key, entry);
+      bytes += entry.length;
+    }
+
+    Iterator<Entry> iterator = entries.values().iterator();
+    while (bytes > maxBytes && iterator.hasNext()) {
+      Entry eldest = iterator.next();
+      iterator.remove();
+      bytes -= eldest.length;
+      deleteFiles(eldest.name);
+    }
+  }
+
+  private Entry readMeta(String name) throws IOException {
+    File file = new File(directory, name + META_SUFFIX);
+    if (!file.isFile()) {
+      return null;
+    }
+
+    try (DataInputStream dis = new DataInputStream(new FileInputStream(file))) {
+      if (dis.readInt() != MAGIC) {
+        return null;
+      }
+
+      String key = dis.readUTF();
+      long length = dis.readLong();
+      long validatedTime = dis.readLong();
+      int count = dis.readInt();
+      Headers.Builder headers = new Headers.Builder();
+      for (int i = 0; i < count; i++) {
+        headers.add(dis.readUTF(), dis.readUTF());
+      }
+      return new Entry(key, name, headers.build(), length, validatedTime);
+    } catch (EOFException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /** Stream of response body which writes data read to temporary file of the cache entry. */
+  private class CachingInputStream extends FilterInputStream {
+    private final Entry entry;
+    private final File temp;
+    private OutputStream out;
+    private long written;
+
+    private CachingInputStream(InputStream body, Entry entry, File temp) throws IOException {
+      super(body);
+      this.entry = entry;
+      this.temp = temp;
+      this.out = new FileOutputStream(temp);
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b >= 0) {
+        write(new byte[] {(byte) b}, 0, 1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int n = super.read(b, off, len);
+      if (n > 0) {
+        write(b, off, n);
+      }
+      return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      // Skipped data is not cached.
+      discard();
+      return super.skip(n);
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        discard();
+      }
+    }
+
+    private void write(byte[] b, int off, int len) throws IOException {
+      if (out == null) {
+        return;
+      }
+
+      try {
+        out.write(b, off, len);
+      } catch (IOException e) {
+        // Failure to write the cache does not fail the read.
+        discard();
+        return;
+      }
+      written += len;
+      if (written == entry.length) {
+        OutputStream o = out;
+        out = null;
+        try {
+          o.close();
+          add(entry, temp);
+        } catch (IOException e) {
+          temp.delete();
+        }
+      }
+    }
+
+    private void discard() {
+      if (out != null) {
+        try {
+          out.close();
+        } catch (IOException e) {
+          // Ignore as the file is removed anyway.
+        }
+        out = null;
+        temp.delete();
+      }
+    }
+  }
+}
@@ -0,0 +1,310 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read-only {@link SeekableByteChannel} of object data. Data is fetched by ranged GETs pinned to
+ * ETag of the object and kept in a small cache of fixed size blocks, so that reads and backward
+ * seeks within recently read data make no request. A ranged GET is kept open while reads go
+ * forward within it; when reads continue right after its end, next GET fetches twice as much
+ * ahead up to {@link #MAX_READ_AHEAD}, and a seek elsewhere resets read-ahead to a single block.
+ * Use {@link java.nio.channels.Channels#newInputStream(java.nio.channels.ReadableByteChannel)} for
+ * {@link InputStream} view of the channel.
+ *
+ * <pre>Example:{@code
+ * try (ObjectChannel channel =
+ *     minioClient.getObjectChannel(
+ *         GetObjectArgs.builder().bucket("my-bucketname").object("my-objectname").build())) {
+ *   ByteBuffer footer = ByteBuffer.allocate(8);
+ *   channel.position(channel.size() - footer.capacity()).read(footer);
+ * }
+ * }</pre>
+ */
+public class ObjectChannel implements SeekableByteChannel {
+  // size of cached block is 64KiB.
+  public static final int BLOCK_SIZE = 64 * 1024;
+  // maximum read-ahead of a ranged GET is 16MiB.
+  public static final long MAX_READ_AHEAD = 16L * 1024 * 1024;
+  // at most 64 blocks i.e. 4MiB are cached.
+  private static final int MAX_CACHED_BLOCKS = 64;
+  // open ranged GET is read through up to 1MiB ahead instead of making a new one.
+  private static final long MAX_SKIP = 1024 * 1024;
+
+  private final MinioClient client;
+  private final ObjectReadArgs args;
+  private final ObjectStat stat;
+  private final BufferPool bufferPool;
+  private final MemoryBudget memoryBudget;
+  // blocks in access order i.e. least recently used block first.
+  private final Map<Long, byte[]> blocks = new LinkedHashMap<>(16, 0.75f, true);
+  private int reservedBlocks;
+  private long position;
+  private boolean open = true;
+  private InputStream stream;
+  private long streamPosition;
+  private long streamEnd = -1;
+  private long readAhead = BLOCK_SIZE;
+  private long requests;
+
+  ObjectChannel(
+      MinioClient client,
+      ObjectReadArgs args,
+      ObjectStat stat,
+      BufferPool bufferPool,
+      MemoryBudget memoryBudget) {
+    this.client = client;
+    this.args = args;
+    this.stat = stat;
+    this.bufferPool = bufferPool;
+    this.memoryBudget = memoryBudget;
+  }
+
+  /** Returns information of the object this channel reads. */
+  public ObjectStat stat() {
+    return stat;
+  }
+
+  /** Returns number of ranged GETs made so far. */
+  public synchronized long requests() {
+    return requests;
+  }
+
+  @Override
+  public synchronized int read(ByteBuffer dst) throws IOException {
+    ensureOpen();
+    long size = stat.length();
+    if (position >= size) {
+      return -1;
+    }
+
+    int total = 0;
+    while (dst.hasRemaining() && position < size) {
+      long index = position / BLOCK_SIZE;
+      byte[] block = blocks.get(index);
+      if (block == null) {
+        block = fetch(index);
+      }
+
+      int offset = (int) (position - index * BLOCK_SIZE);
+      int n = Math.min(dst.remaining(), blockLength(index) - offset);
+      dst.put(block, offset, n);
+      position += n;
+      total += n;
+    }
+
+    return total;
+  }
+
+  @Override
+  public int write(ByteBuffer src) throws IOException {
+    throw new NonWritableChannelException();
+  }
+
+  @Override
+  public synchronized long position() throws IOException {
+    ensureOpen();
+    return position;
+  }
+
+  @Override
+  public synchronized ObjectChannel position(long newPosition) throws IOException {
+    ensureOpen();
+    if (newPosition < 0) {
+      throw new IllegalArgumentException("position must not be negative");
+    }
+
+    position = newPosition;
+    return this;
+  }
+
+  @Override
+  public long size() throws IOException {
+    ensureOpen();
+    return stat.length();
+  }
+
+  @Override
+  public SeekableByteChannel truncate(long size) throws IOException {
+    throw new NonWritableChannelException();
+  }
+
+  @Override
+  public synchronized boolean isOpen() {
+    return open;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (!open) {
+      return;
+    }
+
+    open = false;
+    try {
+      closeStream();
+    } finally {
+      for (byte[] block : blocks.values()) {
+        bufferPool.release(block);
+      }
+      blocks.clear();
+      if (memoryBudget != null && reservedBlocks > 0) {
+        memoryBudget.release((long) reservedBlocks * BLOCK_SIZE);
+      }
+      reservedBlocks = 0;
+    }
+  }
+
+  private void ensureOpen() throws ClosedChannelException {
+    if (!open) {
+      throw new ClosedChannelException();
+    }
+  }
+
+  private int blockLength(long index) {
+    return (int) Math.min(BLOCK_SIZE, stat.length() - index * BLOCK_SIZE);
+  }
+
+  /**
+   * Reads block of given index from open ranged GET if the block is ahead within it, else from a
+   * new ranged GET starting at the block. Blocks skipped over are cached as well.
+   */
+  private byte[] fetch(long index) throws IOException {
+    long blockStart = index * BLOCK_SIZE;
+    if (stream == null
+        || blockStart < streamPosition
+        || blockStart >= streamEnd
+        || blockStart - streamPosition > MAX_SKIP) {
+      if (blockStart == streamEnd) {
+        // Reads continue right after previous ranged GET; fetch more ahead.
+        readAhead = Math.min(readAhead * 2, MAX_READ_AHEAD);
+      } else {
+        readAhead = BLOCK_SIZE;
+      }
+      openStream(blockStart, Math.min(blockStart + readAhead, stat.length()));
+    }
+
+    while (true) {
+      long blockIndex = streamPosition / BLOCK_SIZE;
+      int length = blockLength(blockIndex);
+      byte[] block = blocks.get(blockIndex);
+      if (block == null) {
+        block = allocateBlock();
+        try {
+          ByteStreams.readFully(stream, block, 0, length);
+        } catch (IOException e) {
+          bufferPool.release(block);
+          releaseBlock();
+          closeStream();
+          throw e;
+        }
+        blocks.put(blockIndex, block);
+      } else {
+        ByteStreams.skipFully(stream, length);
+      }
+
+      streamPosition += length;
+      if (streamPosition == streamEnd) {
+        closeStream();
+      }
+
+      if (blockIndex == index) {
+        return block;
+      }
+    }
+  }
+
+  private void openStream(long start, long end) throws IOException {
+    closeStream();
+    try {
+      stream = client.getObject(new GetObjectArgs(args, start, end - start, stat.etag()));
+    } catch (IOException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IOException("unable to get object data", e);
+    }
+
+    requests++;
+    streamPosition = start;
+    streamEnd = end;
+  }
+
+  private void closeStream() throws IOException {
+    if (stream != null) {
+      InputStream s = stream;
+      stream = null;
+      s.close();
+    }
+  }
+
+  /**
+   * Returns block buffer for a block to be read. A new buffer is reserved from memory budget; if
+   * the cache is full or the budget is exhausted, least recently used block is evicted and its
+   * buffer is reused.
+   */
+  private byte[] allocateBlock() throws IOException {
+    if (blocks.size() < MAX_CACHED_BLOCKS) {
+      if (memoryBudget == null) {
+        reservedBlocks++;
+        return bufferPool.acquireArray(BLOCK_SIZE);
+      }
+
+      boolean reserved;
+      if (blocks.isEmpty()) {
+        try {
+          memoryBudget.reserve(BLOCK_SIZE);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("interrupted while waiting for memory budget");
+        }
+        reserved = true;
+      } else {
+        reserved = memoryBudget.tryReserve(BLOCK_SIZE);
+      }
+
+      if (reserved) {
+        reservedBlocks++;
+        return bufferPool.acquireArray(BLOCK_SIZE);
+      }
+    }
+
+    Iterator<byte[]> iterator = blocks.values().iterator();
+    byte[] block = iterator.next();
+    iterator.remove();
+    return block;
+  }
+
+  /** Gives back reservation of a block buffer which is not cached. */
+  private void releaseBlock() {
+    if (memoryBudget != null) {
+      memoryBudget.release(BLOCK_SIZE);
+    }
+    reservedBlocks--;
+  }
+}
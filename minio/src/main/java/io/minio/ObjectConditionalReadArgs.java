@@ -54,6 +54,29 @@ public abstract class ObjectConditionalReadArgs extends ObjectReadArgs {
     return unmodifiedSince;
   }
 
+  /** Generates conditional headers of object read i.e. If-Match, If-None-Match etc. */
+  public Multimap<String, String> genHeaders() {
+    Multimap<String, String> headers = HashMultimap.create();
+
+    if (matchETag != null) {
+      headers.put("If-Match", matchETag);
+    }
+
+    if (notMatchETag != null) {
+      headers.put("If-None-Match", notMatchETag);
+    }
+
+    if (modifiedSince != null) {
+      headers.put("If-Modified-Since", Time.HTTP_HEADER_DATE_FORMAT.print(modifiedSince));
+    }
+
+    if (unmodifiedSince != null) {
+      headers.put("If-Unmodified-Since", Time.HTTP_HEADER_DATE_FORMAT.print(unmodifiedSince));
+    }
+
+    return headers;
+  }
+
   public Multimap<String, String> genCopyHeaders() {
     Multimap<String, String> headers = HashMultimap.create();
 
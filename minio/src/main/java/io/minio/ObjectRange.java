@@ -0,0 +1,63 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A byte range of object data for {@link ReadVectoredArgs}. Range data is read into remaining bytes
+ * of caller-provided buffer i.e. length of the range is remaining bytes of the buffer; position of
+ * the buffer is advanced by the bytes read.
+ */
+public class ObjectRange {
+  private final long offset;
+  private final ByteBuffer buffer;
+
+  /**
+   * Creates range of object data starting at given offset.
+   *
+   * @param offset Start byte position of the range in object data.
+   * @param buffer Buffer to read range data into; may be direct.
+   */
+  public ObjectRange(long offset, ByteBuffer buffer) {
+    if (offset < 0) {
+      throw new IllegalArgumentException("offset must not be negative");
+    }
+    if (buffer == null) {
+      throw new IllegalArgumentException("buffer must not be null.");
+    }
+    if (buffer.isReadOnly()) {
+      throw new IllegalArgumentException("buffer must not be read-only");
+    }
+
+    this.offset = offset;
+    this.buffer = buffer;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public ByteBuffer buffer() {
+    return buffer;
+  }
+
+  /** Returns end byte position, exclusive, of the range as per remaining bytes of the buffer. */
+  long end() {
+    return offset + buffer.remaining();
+  }
+}
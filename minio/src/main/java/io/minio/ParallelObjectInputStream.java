@@ -0,0 +1,269 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * {@link InputStream} of object data fetched by concurrent ranged GETs pinned to ETag of the
+ * object. Up to given number of ranges are fetched ahead into pooled buffers; buffers are handed
+ * out in object order, and a range is fetched once the caller is done with an earlier one. Every
+ * buffered range is reserved from memory budget; if the budget is exhausted, fewer ranges are
+ * fetched ahead.
+ */
+class ParallelObjectInputStream extends InputStream {
+  private final MinioClient client;
+  private final ObjectReadArgs args;
+  private final String etag;
+  private final long end;
+  private final long rangeSize;
+  private final int parallelRanges;
+  private final ExecutorService executorService;
+  private final BufferPool bufferPool;
+  private final MemoryBudget memoryBudget;
+  // ranges being fetched in object order i.e. the range read next first.
+  private final Queue<Range> ranges = new ArrayDeque<>();
+  private long nextOffset;
+  private Range range;
+  private byte[] buffer;
+  private int bufferPosition;
+  private int bufferLimit;
+  private IOException failure;
+  private boolean closed;
+
+  private static class Range {
+    private final int length;
+    private final int reservedSize;
+    private final Future<byte[]> future;
+
+    private Range(int length, int reservedSize, Future<byte[]> future) {
+      this.length = length;
+      this.reservedSize = reservedSize;
+      this.future = future;
+    }
+  }
+
+  ParallelObjectInputStream(
+      MinioClient client,
+      ObjectReadArgs args,
+      String etag,
+      long offset,
+      long end,
+      long rangeSize,
+      int parallelRanges,
+      ExecutorService executorService,
+      BufferPool bufferPool,
+      MemoryBudget memoryBudget)
+      throws IOException {
+    this.client = client;
+    this.args = args;
+    this.etag = etag;
+    this.nextOffset = offset;
+    this.end = end;
+    this.rangeSize = rangeSize;
+    this.parallelRanges = parallelRanges;
+    this.executorService = executorService;
+    this.bufferPool = bufferPool;
+    this.memoryBudget = memoryBudget;
+    fetchAhead();
+  }
+
+  @Override
+  public synchronized int read() throws IOException {
+    if (bufferPosition == bufferLimit && !nextBuffer()) {
+      return -1;
+    }
+
+    return buffer[bufferPosition++] & 0xff;
+  }
+
+  @Override
+  public synchronized int read(byte[] b, int off, int len) throws IOException {
+    if (off < 0 || len < 0 || len > b.length - off) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (len == 0) {
+      return 0;
+    }
+    if (bufferPosition == bufferLimit && !nextBuffer()) {
+      return -1;
+    }
+
+    int n = Math.min(len, bufferLimit - bufferPosition);
+    System.arraycopy(buffer, bufferPosition, b, off, n);
+    bufferPosition += n;
+    return n;
+  }
+
+  @Override
+  public synchronized long skip(long n) throws IOException {
+    if (n <= 0) {
+      return 0;
+    }
+    if (bufferPosition == bufferLimit && !nextBuffer()) {
+      return 0;
+    }
+
+    int skipped = (int) Math.min(n, bufferLimit - bufferPosition);
+    bufferPosition += skipped;
+    return skipped;
+  }
+
+  @Override
+  public synchronized int available() throws IOException {
+    ensureOpen();
+    return bufferLimit - bufferPosition;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+    releaseBuffer();
+    cancelRanges();
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("stream closed");
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /**
+   * Makes data of next range current, waiting for its fetch. Returns false if all ranges are read.
+   * A failed fetch fails the stream and cancels fetches of later ranges.
+   */
+  private boolean nextBuffer() throws IOException {
+    ensureOpen();
+    releaseBuffer();
+    fetchAhead();
+    range = ranges.poll();
+    if (range == null) {
+      return false;
+    }
+
+    try {
+      buffer = range.future.get();
+    } catch (ExecutionException | InterruptedException e) {
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+        failure = new InterruptedIOException("interrupted while waiting for object data");
+      } else if (e.getCause() instanceof IOException) {
+        failure = (IOException) e.getCause();
+      } else {
+        failure = new IOException("unable to get object data", e.getCause());
+      }
+      releaseBuffer();
+      cancelRanges();
+      throw failure;
+    }
+
+    bufferPosition = 0;
+    bufferLimit = range.length;
+    return true;
+  }
+
+  /**
+   * Starts fetches of next ranges up to parallel ranges. Memory of a range is reserved before its
+   * fetch; only when no other range is buffered, the reservation waits for the budget.
+   */
+  private void fetchAhead() throws IOException {
+    while (ranges.size() < parallelRanges && nextOffset < end) {
+      final long offset = nextOffset;
+      final int length = (int) Math.min(rangeSize, end - offset);
+      int reservedSize = BufferPool.sizeClass(length);
+      if (memoryBudget != null) {
+        if (ranges.isEmpty() && buffer == null) {
+          try {
+            memoryBudget.reserve(reservedSize);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for memory budget");
+          }
+        } else if (!memoryBudget.tryReserve(reservedSize)) {
+          return;
+        }
+      }
+
+      ranges.add(
+          new Range(length, reservedSize, executorService.submit(() -> fetch(offset, length))));
+      nextOffset += length;
+    }
+  }
+
+  private byte[] fetch(long offset, int length) throws Exception {
+    byte[] buf = bufferPool.acquireArray(length);
+    try (InputStream stream = client.getObject(new GetObjectArgs(args, offset, length, etag))) {
+      ByteStreams.readFully(stream, buf, 0, length);
+      return buf;
+    } catch (Exception e) {
+      bufferPool.release(buf);
+      throw e;
+    }
+  }
+
+  /** Gives back buffer and memory reservation of current range. */
+  private void releaseBuffer() {
+    if (buffer != null) {
+      bufferPool.release(buffer);
+      buffer = null;
+    }
+    bufferPosition = 0;
+    bufferLimit = 0;
+    if (range != null) {
+      releaseMemory(range.reservedSize);
+      range = null;
+    }
+  }
+
+  /** Cancels fetches of pending ranges, giving back buffers of ranges already fetched. */
+  private void cancelRanges() {
+    Range pending;
+    while ((pending = ranges.poll()) != null) {
+      if (!pending.future.cancel(true) && pending.future.isDone()) {
+        try {
+          bufferPool.release(pending.future.get());
+        } catch (ExecutionException | InterruptedException e) {
+          // Failed fetch has no buffer to give back.
+        }
+      }
+      releaseMemory(pending.reservedSize);
+    }
+    nextOffset = end;
+  }
+
+  private void releaseMemory(int size) {
+    if (memoryBudget != null) {
+      memoryBudget.release(size);
+    }
+  }
+}
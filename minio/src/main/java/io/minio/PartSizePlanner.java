@@ -0,0 +1,104 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plans part sizes of multipart uploads.
+ *
+ * <p>For streams of unknown length, parts start at the minimum part size and double every {@link
+ * #GROWTH_INTERVAL} parts up to {@link #MAX_STREAM_PART_SIZE}, so small streams get their first
+ * bytes out fast and need little memory while 10000 parts still cover the maximum object size.
+ *
+ * <p>For known lengths with adaptive part size enabled, part size is chosen from the upload
+ * throughput measured on previous parts so that a part takes about {@link #TARGET_PART_SECONDS} to
+ * upload, bounded to keep every concurrent upload busy, to fit concurrent parts into the memory
+ * budget and to at most {@link #MAX_ADAPTIVE_PART_SIZE} unless the part count limit needs more.
+ */
+class PartSizePlanner {
+  // number of parts uploaded before part size doubles for unknown length streams.
+  static final int GROWTH_INTERVAL = 625;
+  // largest part of unknown length stream; needed to cover maximum object size in 10000 parts.
+  static final long MAX_STREAM_PART_SIZE = 1024L * 1024 * 1024;
+  // largest planned part of known length; stream parts are buffered in memory.
+  static final long MAX_ADAPTIVE_PART_SIZE = 64L * 1024 * 1024;
+  static final long TARGET_PART_SECONDS = 4;
+  // minimum number of parts per concurrent upload to balance load between them.
+  static final int PARTS_PER_WORKER = 4;
+  // weight of latest sample in moving average of throughput.
+  private static final double ALPHA = 0.3;
+
+  private double throughput; // bytes per second; zero if not measured yet.
+
+  /** Returns size of given part of stream of unknown length. */
+  static long streamPartSize(int partNumber) {
+    long partSize = ObjectWriteArgs.MIN_MULTIPART_SIZE;
+    for (int i = (partNumber - 1) / GROWTH_INTERVAL; i > 0; i--) {
+      partSize *= 2;
+      if (partSize >= MAX_STREAM_PART_SIZE) {
+        return MAX_STREAM_PART_SIZE;
+      }
+    }
+    return partSize;
+  }
+
+  /** Records upload of a part of given size taken given nanoseconds. */
+  synchronized void record(long size, long nanos) {
+    if (size < ObjectWriteArgs.MIN_MULTIPART_SIZE || nanos <= 0) {
+      return; // small parts are dominated by request latency.
+    }
+
+    double sample = (double) size * TimeUnit.SECONDS.toNanos(1) / nanos;
+    throughput = (throughput == 0) ? sample : ALPHA * sample + (1 - ALPHA) * throughput;
+  }
+
+  /** Returns measured upload throughput in bytes per second, or zero if not measured yet. */
+  synchronized double throughput() {
+    return throughput;
+  }
+
+  /**
+   * Returns part size for object of given size uploaded with given number of concurrent parts.
+   * Part size is a multiple of minimum part size, not more than {@link #MAX_ADAPTIVE_PART_SIZE}
+   * and concurrent parts fit into given memory budget; zero or negative budget is unlimited.
+   * Bigger part size is returned only if the object needs it to fit into maximum part count.
+   */
+  long partSize(long objectSize, int parallelParts, long maxMemory) {
+    long unit = ObjectWriteArgs.MIN_MULTIPART_SIZE;
+    long minPartSize =
+        (long) Math.ceil((double) objectSize / ObjectWriteArgs.MAX_MULTIPART_COUNT);
+
+    long partSize = (long) (throughput() * TARGET_PART_SECONDS);
+    if (parallelParts > 1) {
+      partSize = Math.min(partSize, objectSize / ((long) parallelParts * PARTS_PER_WORKER));
+    }
+
+    // Round up to multiple of minimum part size, then round limits down to it.
+    partSize = Math.max(1, (partSize + unit - 1) / unit) * unit;
+    partSize = Math.min(partSize, MAX_ADAPTIVE_PART_SIZE / unit * unit);
+    if (maxMemory > 0) {
+      partSize = Math.min(partSize, Math.max(unit, maxMemory / parallelParts / unit * unit));
+    }
+
+    if (partSize < minPartSize) {
+      partSize = (minPartSize + unit - 1) / unit * unit;
+    }
+    return Math.min(partSize, ObjectWriteArgs.MAX_PART_SIZE);
+  }
+
+}
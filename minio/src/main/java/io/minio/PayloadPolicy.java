@@ -0,0 +1,130 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import com.google.common.io.BaseEncoding;
+
+/**
+ * Payload integrity policy of object data upload. By default, SHA-256 and MD5 of the payload are
+ * computed by reading the data before it is sent; a payload policy replaces them per request.
+ */
+public class PayloadPolicy {
+  /** The types of payload integrity policy. */
+  public static enum Type {
+    /** SHA-256 of payload is computed and signed. */
+    SHA256,
+    /** Payload is not hashed; for trusted links. */
+    UNSIGNED_PAYLOAD,
+    /** SHA-256 and/or MD5 of payload computed by caller are sent. */
+    PRECOMPUTED,
+    /**
+     * CRC32C of payload is computed while it is sent and sent as trailing checksum; single request
+     * uploads only.
+     */
+    CRC32C,
+    /** Payload is hashed and signed chunk by chunk while it is sent. */
+    STREAMING_SIGNATURE
+  }
+
+  private static final PayloadPolicy SHA256 = new PayloadPolicy(Type.SHA256, null, null);
+  private static final PayloadPolicy UNSIGNED_PAYLOAD =
+      new PayloadPolicy(Type.UNSIGNED_PAYLOAD, null, null);
+  private static final PayloadPolicy CRC32C = new PayloadPolicy(Type.CRC32C, null, null);
+  private static final PayloadPolicy STREAMING_SIGNATURE =
+      new PayloadPolicy(Type.STREAMING_SIGNATURE, null, null);
+
+  private final Type type;
+  private final String sha256Hash;
+  private final String md5Hash;
+
+  private PayloadPolicy(Type type, String sha256Hash, String md5Hash) {
+    this.type = type;
+    this.sha256Hash = sha256Hash;
+    this.md5Hash = md5Hash;
+  }
+
+  /** Returns policy computing and signing SHA-256 of payload. */
+  public static PayloadPolicy sha256() {
+    return SHA256;
+  }
+
+  /** Returns policy sending payload without any checksum; use on trusted links only. */
+  public static PayloadPolicy unsignedPayload() {
+    return UNSIGNED_PAYLOAD;
+  }
+
+  /**
+   * Returns policy computing CRC32C of payload while it is sent. Parts of multipart upload are
+   * hashed as by default, because checksum algorithm of a multipart upload must be declared at its
+   * creation and checksums of all parts must be sent at its completion.
+   */
+  public static PayloadPolicy crc32c() {
+    return CRC32C;
+  }
+
+  /** Returns policy signing payload chunk by chunk while it is sent. */
+  public static PayloadPolicy streamingSignature() {
+    return STREAMING_SIGNATURE;
+  }
+
+  /**
+   * Returns policy sending checksums of payload computed by caller. Checksums are of the whole
+   * object, so they are used for uploads done in single request; parts of multipart upload are
+   * hashed as by default.
+   *
+   * @param sha256Hash Hex encoded SHA-256 of payload; null if not known.
+   * @param md5Hash Base64 encoded MD5 of payload; null if not known.
+   */
+  public static PayloadPolicy precomputed(String sha256Hash, String md5Hash) {
+    if (sha256Hash == null && md5Hash == null) {
+      throw new IllegalArgumentException("at least one of SHA-256 or MD5 hash must be provided");
+    }
+
+    if (sha256Hash != null
+        && (sha256Hash.length() != 64
+            || !BaseEncoding.base16().lowerCase().canDecode(sha256Hash))) {
+      throw new IllegalArgumentException("invalid SHA-256 hash " + sha256Hash);
+    }
+
+    if (md5Hash != null
+        && (md5Hash.length() != 24 || !BaseEncoding.base64().canDecode(md5Hash))) {
+      throw new IllegalArgumentException("invalid MD5 hash " + md5Hash);
+    }
+
+    return new PayloadPolicy(Type.PRECOMPUTED, sha256Hash, md5Hash);
+  }
+
+  public Type type() {
+    return type;
+  }
+
+  public String sha256Hash() {
+    return sha256Hash;
+  }
+
+  public String md5Hash() {
+    return md5Hash;
+  }
+
+  /**
+   * Returns policy to use for a part of multipart upload; null i.e. default hashing if checksums of
+   * this policy do not apply to parts.
+   */
+  PayloadPolicy partPolicy() {
+    return (type == Type.PRECOMPUTED || type == Type.CRC32C) ? null : this;
+  }
+}
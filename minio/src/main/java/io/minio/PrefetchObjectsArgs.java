@@ -0,0 +1,75 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/** Argument class of MinioClient.prefetchObjects(). */
+public class PrefetchObjectsArgs extends BucketArgs {
+  public static final int DEFAULT_PARALLEL_REQUESTS = 4;
+
+  private List<String> objects;
+  private int parallelRequests = DEFAULT_PARALLEL_REQUESTS;
+
+  public List<String> objects() {
+    return objects;
+  }
+
+  /** Gets number of objects fetched concurrently. */
+  public int parallelRequests() {
+    return parallelRequests;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Argument builder of {@link PrefetchObjectsArgs}. */
+  public static final class Builder extends BucketArgs.Builder<Builder, PrefetchObjectsArgs> {
+    @Override
+    protected void validate(PrefetchObjectsArgs args) {
+      super.validate(args);
+      validateNotNull(args.objects, "objects");
+    }
+
+    /** Sets names of objects to prefetch. */
+    public Builder objects(List<String> objects) {
+      validateNotNull(objects, "objects");
+      for (String object : objects) {
+        validateNotEmptyString(object, "object name");
+      }
+
+      final List<String> objectList = Collections.unmodifiableList(new ArrayList<>(objects));
+      operations.add(args -> args.objects = objectList);
+      return this;
+    }
+
+    /**
+     * Sets number of objects fetched concurrently. Default is {@link #DEFAULT_PARALLEL_REQUESTS}.
+     */
+    public Builder parallelRequests(int parallelRequests) {
+      if (parallelRequests < 1) {
+        throw new IllegalArgumentException("parallel requests must be greater than zero");
+      }
+
+      operations.add(args -> args.parallelRequests = parallelRequests);
+      return this;
+    }
+  }
+}
@@ -19,15 +19,34 @@ package io.minio;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 /** Argument class of MinioClient.putObject(). */
 public class PutObjectArgs extends PutObjectBaseArgs {
   private BufferedInputStream stream;
+  private ByteBuffer buffer;
+  private FileChannel channel;
+  private long channelPosition;
 
   public BufferedInputStream stream() {
     return stream;
   }
 
+  /** Gets byte buffer to upload; its remaining bytes are object data. */
+  public ByteBuffer buffer() {
+    return (buffer != null) ? buffer.duplicate() : null;
+  }
+
+  /** Gets file channel to upload {@link #objectSize()} bytes from {@link #channelPosition()}. */
+  public FileChannel channel() {
+    return channel;
+  }
+
+  public long channelPosition() {
+    return channelPosition;
+  }
+
   /**
    * Gets content type. It returns if content type is set (or) value of "Content-Type" header (or)
    * default "application/octet-stream".
@@ -42,11 +61,13 @@ public class PutObjectArgs extends PutObjectBaseArgs {
   }
 
   /** Argument builder of {@link PutObjectArgs}. */
-  public static final class Builder extends ObjectWriteArgs.Builder<Builder, PutObjectArgs> {
+  public static final class Builder extends PutObjectBaseArgs.Builder<Builder, PutObjectArgs> {
     @Override
     protected void validate(PutObjectArgs args) {
       super.validate(args);
-      validateNotNull(args.stream, "stream");
+      if (args.stream == null && args.buffer == null && args.channel == null) {
+        throw new IllegalArgumentException("stream, buffer or channel must be provided");
+      }
     }
 
     private void validateSizes(long objectSize, long partSize) {
@@ -67,9 +88,6 @@ public class PutObjectArgs extends PutObjectBaseArgs {
           throw new IllegalArgumentException(
               "object size " + objectSize + " is not supported; maximum allowed 5TiB");
         }
-      } else if (partSize <= 0) {
-        throw new IllegalArgumentException(
-            "valid part size must be provided when object size is unknown");
       }
     }
 
@@ -88,7 +106,7 @@ public class PutObjectArgs extends PutObjectBaseArgs {
 
     private long[] partInfo(long objectSize, long partSize) {
       if (objectSize < 0) {
-        return new long[] {partSize, -1};
+        return new long[] {(partSize > 0) ? partSize : -1, -1};
       }
 
       if (partSize > 0) {
@@ -115,9 +133,11 @@ public class PutObjectArgs extends PutObjectBaseArgs {
      * Sets stream to upload. Two ways to provide object/part sizes.
      *
      * <ul>
-     *   <li>If object size is unknown, pass -1 to objectSize and pass valid partSize.
+     *   <li>If object size is unknown, pass -1 to objectSize and pass valid partSize; or pass -1 to
+     *       partSize to start with 5MiB parts growing geometrically as the stream goes on.
      *   <li>If object size is known, pass -1 to partSize for auto detect; else pass valid partSize
-     *       to control memory usage and no. of parts in upload.
+     *       to control memory usage and no. of parts in upload. See {@link
+     *       #adaptivePartSize(boolean)} to detect part size at upload time.
      *   <li>If partSize is greater than objectSize, objectSize is used as partSize.
      * </ul>
      *
@@ -136,15 +156,75 @@ public class PutObjectArgs extends PutObjectBaseArgs {
           (stream instanceof BufferedInputStream)
               ? (BufferedInputStream) stream
               : new BufferedInputStream(stream);
-      return setStream(bis, objectSize, pSize, pCount);
+      operations.add(args -> args.stream = bis);
+      operations.add(args -> args.buffer = null);
+      operations.add(args -> args.channel = null);
+      return setSizes(objectSize, pSize, pCount, partSize > 0);
+    }
+
+    /**
+     * Sets byte buffer to upload. Bytes between position and limit of the buffer at the time of
+     * this call are object data; position of the buffer is not changed by upload. Buffer may be
+     * direct or {@link java.nio.MappedByteBuffer}; data is hashed and sent from slices of the
+     * buffer without copying it to the heap, and parts are sent concurrently without part buffers
+     * if {@link #parallelParts(int)} is set.
+     *
+     * <p>Pass -1 to partSize for auto detect; else pass valid part size between 5MiB to 5GiB (both
+     * limits inclusive).
+     */
+    public Builder buffer(ByteBuffer buffer, long partSize) {
+      validateNotNull(buffer, "buffer");
+      long objectSize = buffer.remaining();
+      validateSizes(objectSize, partSize);
+
+      long[] partinfo = partInfo(objectSize, partSize);
+      long pSize = partinfo[0];
+      int pCount = (int) partinfo[1];
+      validatePartCount(pCount, objectSize, partSize);
+
+      final ByteBuffer data = buffer.slice();
+      operations.add(args -> args.stream = null);
+      operations.add(args -> args.buffer = data);
+      operations.add(args -> args.channel = null);
+      return setSizes(objectSize, pSize, pCount, partSize > 0);
+    }
+
+    /**
+     * Sets region of file channel to upload. Region is read positionally, so position of the
+     * channel is not used or changed, and parts are sent concurrently from their own regions if
+     * {@link #parallelParts(int)} is set.
+     *
+     * <p>Pass -1 to partSize for auto detect; else pass valid part size between 5MiB to 5GiB (both
+     * limits inclusive).
+     */
+    public Builder channel(FileChannel channel, long position, long length, long partSize) {
+      validateNotNull(channel, "channel");
+      if (position < 0) {
+        throw new IllegalArgumentException("position must not be negative");
+      }
+      if (length < 0) {
+        throw new IllegalArgumentException("length must not be negative");
+      }
+      validateSizes(length, partSize);
+
+      long[] partinfo = partInfo(length, partSize);
+      long pSize = partinfo[0];
+      int pCount = (int) partinfo[1];
+      validatePartCount(pCount, length, partSize);
+
+      operations.add(args -> args.stream = null);
+      operations.add(args -> args.buffer = null);
+      operations.add(args -> args.channel = channel);
+      operations.add(args -> args.channelPosition = position);
+      return setSizes(length, pSize, pCount, partSize > 0);
     }
 
-    private Builder setStream(
-        BufferedInputStream stream, long objectSize, long partSize, int partCount) {
-      operations.add(args -> args.stream = stream);
+    private Builder setSizes(
+        long objectSize, long partSize, int partCount, boolean explicitPartSize) {
       operations.add(args -> args.objectSize = objectSize);
       operations.add(args -> args.partSize = partSize);
       operations.add(args -> args.partCount = partCount);
+      operations.add(args -> args.explicitPartSize = explicitPartSize);
       return this;
     }
 
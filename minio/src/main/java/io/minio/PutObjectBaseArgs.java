@@ -23,6 +23,10 @@ public abstract class PutObjectBaseArgs extends ObjectWriteArgs {
   protected long partSize;
   protected int partCount;
   protected String contentType;
+  protected int parallelParts = 1;
+  protected boolean adaptivePartSize;
+  protected boolean explicitPartSize;
+  protected PayloadPolicy payloadPolicy;
 
   public long objectSize() {
     return objectSize;
@@ -36,6 +40,26 @@ public abstract class PutObjectBaseArgs extends ObjectWriteArgs {
     return partCount;
   }
 
+  /** Gets number of parts uploaded concurrently in multipart upload. */
+  public int parallelParts() {
+    return parallelParts;
+  }
+
+  /** Gets payload integrity policy; null for default integrity checks. */
+  public PayloadPolicy payloadPolicy() {
+    return payloadPolicy;
+  }
+
+  /** Gets whether part size may be planned at upload time instead of fixed {@link #partSize()}. */
+  boolean adaptivePartSize() {
+    return adaptivePartSize;
+  }
+
+  /** Gets whether {@link #partSize()} is set by the caller instead of computed from object size. */
+  boolean explicitPartSize() {
+    return explicitPartSize;
+  }
+
   /** Gets content type. It returns if content type is set (or) value of "Content-Type" header. */
   public String contentType() throws IOException {
     if (contentType != null) {
@@ -49,6 +73,42 @@ public abstract class PutObjectBaseArgs extends ObjectWriteArgs {
     return null;
   }
 
+  @SuppressWarnings("unchecked") // Its safe to type cast to B as B is inherited by this class
   public abstract static class Builder<B extends Builder<B, A>, A extends PutObjectBaseArgs>
-      extends ObjectWriteArgs.Builder<B, A> {}
+      extends ObjectWriteArgs.Builder<B, A> {
+    /**
+     * Sets number of parts to upload concurrently in multipart upload. Default is 1 i.e. parts are
+     * uploaded one after another.
+     */
+    public B parallelParts(int parallelParts) {
+      if (parallelParts < 1) {
+        throw new IllegalArgumentException("parallel parts must be greater than zero");
+      }
+
+      operations.add(args -> args.parallelParts = parallelParts);
+      return (B) this;
+    }
+
+    /**
+     * Sets whether part size of object of known size is chosen at upload time from upload
+     * throughput measured on previous uploads of the client, instead of the fixed part size
+     * computed from object size. A part size explicitly passed by the caller is always kept.
+     * Planned parts are at most 64MiB and concurrent parts fit into memory budget of the client if
+     * set. Default is false.
+     */
+    public B adaptivePartSize(boolean adaptivePartSize) {
+      operations.add(args -> args.adaptivePartSize = adaptivePartSize);
+      return (B) this;
+    }
+
+    /**
+     * Sets payload integrity policy of object data. Default is SHA-256 and MD5 of data computed
+     * before it is sent (MD5 only on HTTPS).
+     */
+    public B payloadPolicy(PayloadPolicy payloadPolicy) {
+      validateNotNull(payloadPolicy, "payload policy");
+      operations.add(args -> args.payloadPolicy = payloadPolicy);
+      return (B) this;
+    }
+  }
 }
@@ -0,0 +1,119 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/** Argument class of MinioClient.readVectored(). */
+public class ReadVectoredArgs extends ObjectConditionalReadArgs {
+  // ranges closer than 64KiB are fetched by one request by default.
+  public static final long DEFAULT_MAX_GAP = 64L * 1024;
+  // merged request is not extended beyond 8MiB by default.
+  public static final long DEFAULT_MAX_MERGED_SIZE = 8L * 1024 * 1024;
+  public static final int DEFAULT_PARALLEL_REQUESTS = 4;
+
+  private List<ObjectRange> ranges;
+  private long maxGap = DEFAULT_MAX_GAP;
+  private long maxMergedSize = DEFAULT_MAX_MERGED_SIZE;
+  private int parallelRequests = DEFAULT_PARALLEL_REQUESTS;
+
+  public List<ObjectRange> ranges() {
+    return ranges;
+  }
+
+  /** Gets maximum gap between ranges fetched by one request. */
+  public long maxGap() {
+    return maxGap;
+  }
+
+  /** Gets size up to which ranges are merged into one request. */
+  public long maxMergedSize() {
+    return maxMergedSize;
+  }
+
+  /** Gets number of merged requests made concurrently. */
+  public int parallelRequests() {
+    return parallelRequests;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Argument builder of {@link ReadVectoredArgs}. */
+  public static final class Builder
+      extends ObjectConditionalReadArgs.Builder<Builder, ReadVectoredArgs> {
+    @Override
+    protected void validate(ReadVectoredArgs args) {
+      super.validate(args);
+      validateNotNull(args.ranges, "ranges");
+    }
+
+    /** Sets byte ranges to read. Ranges must not overlap each other. */
+    public Builder ranges(List<ObjectRange> ranges) {
+      validateNotNull(ranges, "ranges");
+      for (ObjectRange range : ranges) {
+        validateNotNull(range, "range");
+      }
+
+      final List<ObjectRange> rangeList = Collections.unmodifiableList(new ArrayList<>(ranges));
+      operations.add(args -> args.ranges = rangeList);
+      return this;
+    }
+
+    /**
+     * Sets maximum gap between ranges fetched by one request. Bytes in the gaps are fetched and
+     * discarded. Default is {@link #DEFAULT_MAX_GAP}; pass zero to merge only adjacent ranges.
+     */
+    public Builder maxGap(long maxGap) {
+      if (maxGap < 0) {
+        throw new IllegalArgumentException("max gap must not be negative");
+      }
+
+      operations.add(args -> args.maxGap = maxGap);
+      return this;
+    }
+
+    /**
+     * Sets size up to which ranges are merged into one request. A range bigger than this size is
+     * fetched by its own request. Default is {@link #DEFAULT_MAX_MERGED_SIZE}.
+     */
+    public Builder maxMergedSize(long maxMergedSize) {
+      if (maxMergedSize <= 0) {
+        throw new IllegalArgumentException("max merged size must be greater than zero");
+      }
+
+      operations.add(args -> args.maxMergedSize = maxMergedSize);
+      return this;
+    }
+
+    /**
+     * Sets number of merged requests made concurrently. Default is {@link
+     * #DEFAULT_PARALLEL_REQUESTS}.
+     */
+    public Builder parallelRequests(int parallelRequests) {
+      if (parallelRequests < 1) {
+        throw new IllegalArgumentException("parallel requests must be greater than zero");
+      }
+
+      operations.add(args -> args.parallelRequests = parallelRequests);
+      return this;
+    }
+  }
+}
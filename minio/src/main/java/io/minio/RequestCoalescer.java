@@ -0,0 +1,139 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import com.google.common.collect.Multimap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+
+import io.minio.http.Method;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Coalesces concurrent identical GET and HEAD requests into one in-flight call. The first caller
+ * of a request executes it; callers of the same request meanwhile wait for its outcome. A failure
+ * is thrown to every caller. A successful response whose body is up to {@link
+ * #MAX_SHARED_BODY_SIZE} is buffered and every caller gets its own response of the buffered body;
+ * callers waiting for a response with bigger or unknown body execute the request themselves.
+ */
+class RequestCoalescer {
+  // response body up to 1MiB is shared among callers.
+  static final long MAX_SHARED_BODY_SIZE = 1024 * 1024;
+
+  private final ConcurrentMap<String, Flight> flights = new ConcurrentHashMap<>();
+
+  /** Request execution. */
+  interface Call {
+    Response execute() throws Exception;
+  }
+
+  /** Outcome of an in-flight request. */
+  private static class Flight {
+    private final CountDownLatch done = new CountDownLatch(1);
+    private Response response;
+    private MediaType contentType;
+    private byte[] body;
+    private Exception failure;
+  }
+
+  /** Returns key of request of given parameters; headers and query parameters are sorted. */
+  static String key(
+      Method method,
+      String bucketName,
+      String objectName,
+      String region,
+      Multimap<String, String> headers,
+      Multimap<String, String> queryParams) {
+    StringBuilder builder = new StringBuilder();
+    builder.append(method).append(' ').append(region).append(' ').append(bucketName);
+    builder.append('/').append(objectName);
+    append(builder, '?', queryParams);
+    append(builder, '\n', headers);
+    return builder.toString();
+  }
+
+  private static void append(StringBuilder builder, char prefix, Multimap<String, String> map) {
+    if (map == null) {
+      return;
+    }
+
+    List<String> entries = new ArrayList<>();
+    for (Map.Entry<String, String> entry : map.entries()) {
+      entries.add(entry.getKey().toLowerCase(Locale.US) + "=" + entry.getValue());
+    }
+    Collections.sort(entries);
+    for (String entry : entries) {
+      builder.append(prefix).append(entry);
+    }
+  }
+
+  /** Executes given call of given request key unless identical request is in flight. */
+  Response execute(String key, Call call) throws Exception {
+    Flight flight = new Flight();
+    Flight current = flights.putIfAbsent(key, flight);
+    if (current != null) {
+      current.done.await();
+      if (current.failure != null) {
+        throw current.failure;
+      }
+      if (current.body != null) {
+        return copy(current.response, current.contentType, current.body);
+      }
+      return call.execute();
+    }
+
+    try {
+      Response response = call.execute();
+      ResponseBody body = response.body();
+      if (body == null || "HEAD".equals(response.request().method())) {
+        // Response without body is shared as is.
+        flight.body = new byte[0];
+        flight.response = response;
+        return response;
+      }
+
+      long length = body.contentLength();
+      if (length < 0 || length > MAX_SHARED_BODY_SIZE) {
+        return response;
+      }
+
+      flight.contentType = body.contentType();
+      flight.body = body.bytes();
+      flight.response = response;
+      return copy(response, flight.contentType, flight.body);
+    } catch (Exception e) {
+      flight.failure = e;
+      throw e;
+    } finally {
+      flights.remove(key, flight);
+      flight.done.countDown();
+    }
+  }
+
+  private static Response copy(Response response, MediaType contentType, byte[] body) {
+    return response.newBuilder().body(ResponseBody.create(contentType, body)).build();
+  }
+}
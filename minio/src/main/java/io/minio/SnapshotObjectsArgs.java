@@ -0,0 +1,90 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/** Argument class of MinioClient.snapshotObjects(). */
+public class SnapshotObjectsArgs extends BucketArgs {
+  public static final int DEFAULT_CHECKPOINT_PAGES = 10;
+
+  private String prefix = "";
+  private String filename;
+  private int checkpointPages = DEFAULT_CHECKPOINT_PAGES;
+
+  public String prefix() {
+    return prefix;
+  }
+
+  public String filename() {
+    return filename;
+  }
+
+  /** Gets number of listing pages after which the snapshot file is checkpointed. */
+  public int checkpointPages() {
+    return checkpointPages;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Argument builder of {@link SnapshotObjectsArgs}. */
+  public static final class Builder extends BucketArgs.Builder<Builder, SnapshotObjectsArgs> {
+    @Override
+    protected void validate(SnapshotObjectsArgs args) {
+      super.validate(args);
+      validateFileName(args.filename);
+    }
+
+    public Builder prefix(String prefix) {
+      operations.add(args -> args.prefix = (prefix == null ? "" : prefix));
+      return this;
+    }
+
+    /** Sets name of the snapshot file. */
+    public Builder filename(String filename) {
+      validateFileName(filename);
+      operations.add(args -> args.filename = filename);
+      return this;
+    }
+
+    /**
+     * Sets number of listing pages after which listed objects and continuation token of next page
+     * are appended to the snapshot file. Default is {@link #DEFAULT_CHECKPOINT_PAGES}.
+     */
+    public Builder checkpointPages(int checkpointPages) {
+      if (checkpointPages < 1) {
+        throw new IllegalArgumentException("checkpoint pages must be greater than zero");
+      }
+
+      operations.add(args -> args.checkpointPages = checkpointPages);
+      return this;
+    }
+
+    private void validateFileName(String filename) {
+      validateNotEmptyString(filename, "filename");
+
+      Path filePath = Paths.get(filename);
+      if (Files.exists(filePath) && !Files.isRegularFile(filePath)) {
+        throw new IllegalArgumentException(filename + ": not a regular file");
+      }
+    }
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * On-disk journal of a multipart upload. Header records bucket, object, upload ID, source file
+ * size/modified time and part size; each completed part is appended as its own record and synced
+ * to disk, so a torn or corrupt trailing record after a crash is simply dropped on load.
+ */
+class UploadJournal {
+  private static final int MAGIC = 0x4d4a4e32; // "MJN2"
+
+  private final String bucketName;
+  private final String objectName;
+  private final String uploadId;
+  private final long objectSize;
+  private final long lastModified;
+  private final long partSize;
+  private final Map<Integer, String> etags = new TreeMap<>();
+  private JournalFile journalFile;
+
+  private UploadJournal(
+      String bucketName,
+      String objectName,
+      String uploadId,
+      long objectSize,
+      long lastModified,
+      long partSize) {
+    this.bucketName = bucketName;
+    this.objectName = objectName;
+    this.uploadId = uploadId;
+    this.objectSize = objectSize;
+    this.lastModified = lastModified;
+    this.partSize = partSize;
+  }
+
+  /** Creates new journal file for given upload, replacing existing file if any. */
+  public static UploadJournal create(
+      File file,
+      String bucketName,
+      String objectName,
+      String uploadId,
+      long objectSize,
+      long lastModified,
+      long partSize)
+      throws IOException {
+    UploadJournal journal =
+        new UploadJournal(bucketName, objectName, uploadId, objectSize, lastModified, partSize);
+    journal.journalFile =
+        JournalFile.create(
+            file,
+            MAGIC,
+            out -> {
+              out.writeUTF(bucketName);
+              out.writeUTF(objectName);
+              out.writeUTF(uploadId);
+              out.writeLong(objectSize);
+              out.writeLong(lastModified);
+              out.writeLong(partSize);
+            });
+    return journal;
+  }
+
+  /**
+   * Loads journal from given file. Returns null if file does not exist or it is not a valid
+   * journal.
+   */
+  public static UploadJournal load(File file) throws IOException {
+    UploadJournal[] journal = new UploadJournal[1];
+    JournalFile journalFile =
+        JournalFile.load(
+            file,
+            MAGIC,
+            in ->
+                journal[0] =
+                    new UploadJournal(
+                        in.readUTF(),
+                        in.readUTF(),
+                        in.readUTF(),
+                        in.readLong(),
+                        in.readLong(),
+                        in.readLong()),
+            in -> {
+              int partNumber = in.readInt();
+              String etag = in.readUTF();
+              journal[0].etags.put(partNumber, etag);
+            });
+    if (journalFile == null) {
+      return null;
+    }
+
+    journal[0].journalFile = journalFile;
+    return journal[0];
+  }
+
+  /** Returns whether this journal is of given upload of given source file. */
+  public boolean matches(
+      String bucketName, String objectName, long objectSize, long lastModified, long partSize) {
+    return this.bucketName.equals(bucketName)
+        && this.objectName.equals(objectName)
+        && this.objectSize == objectSize
+        && this.lastModified == lastModified
+        && this.partSize == partSize;
+  }
+
+  public String bucketName() {
+    return bucketName;
+  }
+
+  public String objectName() {
+    return objectName;
+  }
+
+  public String uploadId() {
+    return uploadId;
+  }
+
+  /** Returns ETags of parts recorded as completed, keyed by part number. */
+  public synchronized Map<Integer, String> etags() {
+    return Collections.unmodifiableMap(new TreeMap<>(etags));
+  }
+
+  /** Records given part as completed and syncs it to disk. */
+  public synchronized void append(int partNumber, String etag) throws IOException {
+    journalFile.append(
+        out -> {
+          out.writeInt(partNumber);
+          out.writeUTF(etag);
+        });
+    etags.put(partNumber, etag);
+  }
+
+  /** Closes the journal keeping its file for later resume. */
+  public synchronized void close() throws IOException {
+    journalFile.close();
+  }
+
+  /** Closes and removes journal file. */
+  public synchronized void delete() throws IOException {
+    journalFile.delete();
+  }
+}
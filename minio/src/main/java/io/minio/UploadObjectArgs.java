@@ -23,11 +23,17 @@ import java.nio.file.Paths;
 /** Argument class of MinioClient.uploadObject(). */
 public class UploadObjectArgs extends PutObjectBaseArgs {
   private String filename;
+  private String journalFilename;
 
   public String filename() {
     return filename;
   }
 
+  /** Gets journal file of resumable upload. */
+  public String journalFilename() {
+    return journalFilename;
+  }
+
   /**
    * Gets content type. It returns if content type is set (or) value of "Content-Type" header (or)
    * probed content type of file (or) default "application/octet-stream".
@@ -49,7 +55,7 @@ public class UploadObjectArgs extends PutObjectBaseArgs {
   }
 
   /** Argument builder of {@link UploadObjectArgs}. */
-  public static final class Builder extends ObjectWriteArgs.Builder<Builder, UploadObjectArgs> {
+  public static final class Builder extends PutObjectBaseArgs.Builder<Builder, UploadObjectArgs> {
     @Override
     protected void validate(UploadObjectArgs args) {
       super.validate(args);
@@ -84,6 +90,17 @@ public class UploadObjectArgs extends PutObjectBaseArgs {
       return this;
     }
 
+    /**
+     * Enables resumable upload. Progress of multipart upload is recorded in given journal file;
+     * if the upload fails, the multipart upload is kept on the server and uploading again with
+     * the same journal file uploads only missing parts.
+     */
+    public Builder journalFilename(String journalFilename) {
+      validateNotEmptyString(journalFilename, "journal filename");
+      operations.add(args -> args.journalFilename = journalFilename);
+      return this;
+    }
+
     public Builder contentType(String contentType) {
       validateNotEmptyString(contentType, "content type");
       operations.add(args -> args.contentType = contentType);
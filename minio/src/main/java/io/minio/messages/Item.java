@@ -117,4 +117,41 @@ public abstract class Item {
   public boolean isDeleteMarker() {
     return (etag == null && size == 0 && storageClass == null && versionId != null);
   }
+
+  /** Sets value of given child element; used by {@link ListResultParser}. */
+  void setElement(String element, String value) {
+    switch (element) {
+      case "ETag":
+        etag = value;
+        break;
+      case "Key":
+        objectName = value;
+        break;
+      case "LastModified":
+        lastModified = ResponseDate.fromString(value.trim());
+        break;
+      case "Size":
+        size = Long.parseLong(value.trim());
+        break;
+      case "StorageClass":
+        storageClass = value;
+        break;
+      case "IsLatest":
+        isLatest = Boolean.parseBoolean(value.trim());
+        break;
+      case "VersionId":
+        versionId = value;
+        break;
+      default:
+        break;
+    }
+  }
+
+  void setOwner(Owner owner) {
+    this.owner = owner;
+  }
+
+  void setUserMetadata(Metadata userMetadata) {
+    this.userMetadata = userMetadata;
+  }
 }
@@ -21,6 +21,7 @@ import org.simpleframework.xml.ElementList;
 import org.simpleframework.xml.Namespace;
 import org.simpleframework.xml.Root;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -51,4 +52,28 @@ public class ListBucketResultV1 extends ListObjectsResult {
   public List<Contents> contents() {
     return emptyIfNull(contents);
   }
+
+  @Override
+  void setElement(String element, String value) {
+    if (element.equals("Marker")) {
+      marker = value;
+    } else if (element.equals("NextMarker")) {
+      nextMarker = value;
+    } else {
+      super.setElement(element, value);
+    }
+  }
+
+  @Override
+  Item newItem(String element) {
+    return element.equals("Contents") ? new Contents() : null;
+  }
+
+  @Override
+  void addItem(Item item) {
+    if (contents == null) {
+      contents = new ArrayList<>();
+    }
+    contents.add((Contents) item);
+  }
 }
@@ -21,6 +21,7 @@ import org.simpleframework.xml.ElementList;
 import org.simpleframework.xml.Namespace;
 import org.simpleframework.xml.Root;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -71,4 +72,38 @@ public class ListBucketResultV2 extends ListObjectsResult {
   public List<Contents> contents() {
     return emptyIfNull(contents);
   }
+
+  @Override
+  void setElement(String element, String value) {
+    switch (element) {
+      case "KeyCount":
+        keyCount = Integer.parseInt(value.trim());
+        break;
+      case "StartAfter":
+        startAfter = value;
+        break;
+      case "ContinuationToken":
+        continuationToken = value;
+        break;
+      case "NextContinuationToken":
+        nextContinuationToken = value;
+        break;
+      default:
+        super.setElement(element, value);
+        break;
+    }
+  }
+
+  @Override
+  Item newItem(String element) {
+    return element.equals("Contents") ? new Contents() : null;
+  }
+
+  @Override
+  void addItem(Item item) {
+    if (contents == null) {
+      contents = new ArrayList<>();
+    }
+    contents.add((Contents) item);
+  }
 }
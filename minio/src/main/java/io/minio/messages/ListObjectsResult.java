@@ -21,6 +21,7 @@ import com.google.common.base.MoreObjects;
 import org.simpleframework.xml.Element;
 import org.simpleframework.xml.ElementList;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -91,6 +92,47 @@ public abstract class ListObjectsResult {
     return deleteMarkers;
   }
 
+  /** Sets value of given child element; used by {@link ListResultParser}. */
+  void setElement(String element, String value) {
+    switch (element) {
+      case "Name":
+        name = value;
+        break;
+      case "EncodingType":
+        encodingType = value;
+        break;
+      case "Prefix":
+        prefix = value;
+        break;
+      case "Delimiter":
+        delimiter = value;
+        break;
+      case "IsTruncated":
+        isTruncated = Boolean.parseBoolean(value.trim());
+        break;
+      case "MaxKeys":
+        maxKeys = Integer.parseInt(value.trim());
+        break;
+      default:
+        break;
+    }
+  }
+
+  void addCommonPrefix(Prefix prefix) {
+    if (commonPrefixes == null) {
+      commonPrefixes = new ArrayList<>();
+    }
+    commonPrefixes.add(prefix);
+  }
+
+  /** Returns new item of given child element; null if the element is not an item. */
+  Item newItem(String element) {
+    return null;
+  }
+
+  /** Adds given item created by {@link #newItem(String)}. */
+  void addItem(Item item) {}
+
   protected <T extends Item> List<T> emptyIfNull(List<T> lst) {
     return Collections.unmodifiableList(MoreObjects.firstNonNull(lst, new LinkedList<T>()));
   }
@@ -0,0 +1,245 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio.messages;
+
+import com.fasterxml.aalto.stax.InputFactoryImpl;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import io.minio.errors.XmlParserException;
+
+/**
+ * Pull parser of response XML of <a
+ * href="https://docs.aws.amazon.com/AmazonS3/latest/API/API_ListObjects.html">ListObjects</a>,
+ * <a href="https://docs.aws.amazon.com/AmazonS3/latest/API/API_ListObjectsV2.html">ListObjectsV2</a>
+ * and <a
+ * href="https://docs.aws.amazon.com/AmazonS3/latest/API/API_ListObjectVersions.html">ListObjectVersions</a>
+ * APIs. Unlike {@link io.minio.Xml#unmarshal}, the response is read by StAX without reflection and
+ * without building the document. Every object, version, delete marker and common prefix is
+ * returned by {@link #next()} as soon as its element is read; {@link #result()} collects them
+ * into the result object.
+ *
+ * <p>Listing of {@link io.minio.MinioClient} uses {@link #result()}, as its page iterators need the
+ * continuation marker of a page before the next page is fetched; there, a page is still built as a
+ * whole result object before its items are returned, and only parsing of the page is faster.
+ *
+ * <pre>Example:{@code
+ * ListResultParser<ListBucketResultV2> parser = ListResultParser.listBucketResultV2(stream);
+ * Item item;
+ * while ((item = parser.next()) != null) {
+ *   System.out.println(item.objectName());
+ * }
+ * String token = parser.partialResult().nextContinuationToken();
+ * }</pre>
+ */
+public class ListResultParser<T extends ListObjectsResult> {
+  private static final XMLInputFactory FACTORY = new InputFactoryImpl();
+
+  static {
+    FACTORY.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    FACTORY.setProperty(XMLInputFactory.IS_COALESCING, true);
+    FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+  }
+
+  private final XMLStreamReader reader;
+  private final T result;
+  private boolean started;
+  private boolean ended;
+
+  private ListResultParser(InputStream stream, T result) throws XmlParserException {
+    try {
+      this.reader = FACTORY.createXMLStreamReader(stream);
+    } catch (XMLStreamException e) {
+      throw new XmlParserException(e);
+    }
+    this.result = result;
+  }
+
+  /** Returns parser of ListObjects response in given stream. */
+  public static ListResultParser<ListBucketResultV1> listBucketResultV1(InputStream stream)
+      throws XmlParserException {
+    return new ListResultParser<>(stream, new ListBucketResultV1());
+  }
+
+  /** Returns parser of ListObjectsV2 response in given stream. */
+  public static ListResultParser<ListBucketResultV2> listBucketResultV2(InputStream stream)
+      throws XmlParserException {
+    return new ListResultParser<>(stream, new ListBucketResultV2());
+  }
+
+  /** Returns parser of ListObjectVersions response in given stream. */
+  public static ListResultParser<ListVersionsResult> listVersionsResult(InputStream stream)
+      throws XmlParserException {
+    return new ListResultParser<>(stream, new ListVersionsResult());
+  }
+
+  /**
+   * Returns next object, version or delete marker of the response, or common prefix as directory
+   * item; null at end of the response. Other elements read on the way are set to {@link
+   * #partialResult()}.
+   */
+  public Item next() throws XmlParserException {
+    try {
+      if (!started) {
+        started = true;
+        reader.nextTag();
+      }
+
+      while (!ended) {
+        if (reader.nextTag() == XMLStreamConstants.END_ELEMENT) {
+          ended = true;
+          reader.close();
+          break;
+        }
+
+        String element = reader.getLocalName();
+        Item item = result.newItem(element);
+        if (item != null) {
+          readItem(item);
+          return item;
+        }
+
+        if (element.equals("CommonPrefixes")) {
+          Item prefix = readCommonPrefix();
+          if (prefix != null) {
+            return prefix;
+          }
+        } else {
+          String value = readText();
+          if (value != null) {
+            result.setElement(element, value);
+          }
+        }
+      }
+
+      return null;
+    } catch (XMLStreamException | RuntimeException e) {
+      throw new XmlParserException(e);
+    }
+  }
+
+  /**
+   * Returns result having elements read so far, without items returned by {@link #next()}. Fields
+   * after the last item read are not set yet.
+   */
+  public T partialResult() {
+    return result;
+  }
+
+  /** Reads rest of the response and returns its result having all items not returned yet. */
+  public T result() throws XmlParserException {
+    Item item;
+    while ((item = next()) != null) {
+      if (item.isDir()) {
+        result.addCommonPrefix(new Prefix(item.objectName()));
+      } else {
+        result.addItem(item);
+      }
+    }
+    return result;
+  }
+
+  private void readItem(Item item) throws XMLStreamException {
+    while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+      String element = reader.getLocalName();
+      if (element.equals("Owner")) {
+        Owner owner = new Owner();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+          String child = reader.getLocalName();
+          String value = readText();
+          if (value != null) {
+            owner.setElement(child, value);
+          }
+        }
+        item.setOwner(owner);
+      } else if (element.equals("UserMetadata")) {
+        Map<String, String> map = new HashMap<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+          String child = reader.getLocalName();
+          String value = readText();
+          map.put(child, value == null ? "" : value);
+        }
+        if (!map.isEmpty()) {
+          item.setUserMetadata(new Metadata(map));
+        }
+      } else {
+        String value = readText();
+        if (value != null) {
+          item.setElement(element, value);
+        }
+      }
+    }
+  }
+
+  private Item readCommonPrefix() throws XMLStreamException {
+    Item prefix = null;
+    while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+      String element = reader.getLocalName();
+      String value = readText();
+      if (element.equals("Prefix") && value != null) {
+        prefix = new Prefix(value).toItem();
+      }
+    }
+    return prefix;
+  }
+
+  /**
+   * Reads text of current element up to its end, skipping child elements if any. Returns null if
+   * the element has no text.
+   */
+  private String readText() throws XMLStreamException {
+    String text = null;
+    StringBuilder builder = null;
+    int depth = 1;
+    while (depth > 0) {
+      switch (reader.next()) {
+        case XMLStreamConstants.START_ELEMENT:
+          depth++;
+          break;
+        case XMLStreamConstants.END_ELEMENT:
+          depth--;
+          break;
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.CDATA:
+        case XMLStreamConstants.SPACE:
+          if (depth > 1) {
+            break;
+          }
+          if (text == null) {
+            text = reader.getText();
+          } else {
+            if (builder == null) {
+              builder = new StringBuilder(text);
+            }
+            builder.append(reader.getText());
+          }
+          break;
+        default:
+          break;
+      }
+    }
+    return builder == null ? text : builder.toString();
+  }
+}
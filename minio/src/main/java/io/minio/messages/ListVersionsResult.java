@@ -21,6 +21,7 @@ import org.simpleframework.xml.ElementList;
 import org.simpleframework.xml.Namespace;
 import org.simpleframework.xml.Root;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -74,4 +75,51 @@ public class ListVersionsResult extends ListObjectsResult {
   public List<DeleteMarker> deleteMarkers() {
     return emptyIfNull(deleteMarkers);
   }
+
+  @Override
+  void setElement(String element, String value) {
+    switch (element) {
+      case "KeyMarker":
+        keyMarker = value;
+        break;
+      case "NextKeyMarker":
+        nextKeyMarker = value;
+        break;
+      case "VersionIdMarker":
+        versionIdMarker = value;
+        break;
+      case "NextVersionIdMarker":
+        nextVersionIdMarker = value;
+        break;
+      default:
+        super.setElement(element, value);
+        break;
+    }
+  }
+
+  @Override
+  Item newItem(String element) {
+    if (element.equals("Version")) {
+      return new Version();
+    }
+    if (element.equals("DeleteMarker")) {
+      return new DeleteMarker();
+    }
+    return null;
+  }
+
+  @Override
+  void addItem(Item item) {
+    if (item instanceof DeleteMarker) {
+      if (deleteMarkers == null) {
+        deleteMarkers = new ArrayList<>();
+      }
+      deleteMarkers.add((DeleteMarker) item);
+    } else {
+      if (contents == null) {
+        contents = new ArrayList<>();
+      }
+      contents.add((Version) item);
+    }
+  }
 }
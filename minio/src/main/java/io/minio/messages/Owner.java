@@ -43,4 +43,13 @@ public class Owner {
   public String displayName() {
     return displayName;
   }
+
+  /** Sets value of given child element; used by {@link ListResultParser}. */
+  void setElement(String element, String value) {
+    if (element.equals("ID")) {
+      id = value;
+    } else if (element.equals("DisplayName")) {
+      displayName = value;
+    }
+  }
 }
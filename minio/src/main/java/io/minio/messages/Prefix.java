@@ -30,6 +30,10 @@ public class Prefix {
 
   public Prefix() {}
 
+  Prefix(String prefix) {
+    this.prefix = prefix;
+  }
+
   public Item toItem() {
     return new Contents(prefix);
   }
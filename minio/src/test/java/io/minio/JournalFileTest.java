@@ -0,0 +1,266 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.Test;
+
+public class JournalFileTest {
+  private static final int MAGIC = 0x54455354; // "TEST"
+  private static final int RECORD_LENGTH = 4 + 8 + 4; // length, long payload and CRC32
+
+  private static JournalFile create(File file, String header, int... records) throws IOException {
+    JournalFile journal = JournalFile.create(file, MAGIC, out -> out.writeUTF(header));
+    for (int record : records) {
+      journal.append(out -> out.writeLong(record));
+    }
+    return journal;
+  }
+
+  private static List<Long> load(File file, String expectedHeader) throws IOException {
+    List<String> header = new ArrayList<>();
+    List<Long> records = new ArrayList<>();
+    JournalFile journal =
+        JournalFile.load(
+            file, MAGIC, in -> header.add(in.readUTF()), in -> records.add(in.readLong()));
+    if (journal == null) {
+      return null;
+    }
+
+    journal.close();
+    assertEquals(Collections.singletonList(expectedHeader), header);
+    return records;
+  }
+
+  private static void truncate(File file, long length) throws IOException {
+    try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+      raf.setLength(length);
+    }
+  }
+
+  private static void flipByte(File file, long position) throws IOException {
+    try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+      raf.seek(position);
+      int b = raf.read();
+      raf.seek(position);
+      raf.write(b ^ 0xff);
+    }
+  }
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    File file = File.createTempFile("journal", ".bin");
+    try {
+      create(file, "header", 1, 2, 3).close();
+      assertEquals(Arrays.asList(1L, 2L, 3L), load(file, "header"));
+      assertFalse(new File(file.getPath() + ".tmp").exists());
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testCreateReplacesExistingFile() throws Exception {
+    File file = File.createTempFile("journal", ".bin");
+    try {
+      create(file, "old", 1, 2, 3).close();
+      create(file, "new", 4).close();
+      assertEquals(Collections.singletonList(4L), load(file, "new"));
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testTornTrailingRecordIsDropped() throws Exception {
+    File file = File.createTempFile("journal", ".bin");
+    try {
+      create(file, "header", 1, 2, 3).close();
+      long length = file.length();
+      for (int torn = 1; torn < RECORD_LENGTH; torn++) {
+        create(file, "header", 1, 2, 3).close();
+        truncate(file, length - torn);
+        assertEquals(Arrays.asList(1L, 2L), load(file, "header"));
+        assertEquals(length - RECORD_LENGTH, file.length());
+      }
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testCorruptRecordDropsTail() throws Exception {
+    File file = File.createTempFile("journal", ".bin");
+    try {
+      create(file, "header", 1, 2, 3).close();
+      long length = file.length();
+      // Corrupt payload of second record; it and everything after it are dropped.
+      flipByte(file, length - 2 * RECORD_LENGTH + 4);
+      assertEquals(Collections.singletonList(1L), load(file, "header"));
+      assertEquals(length - 2 * RECORD_LENGTH, file.length());
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testCorruptRecordLength() throws Exception {
+    File file = File.createTempFile("journal", ".bin");
+    try {
+      create(file, "header", 1, 2).close();
+      long length = file.length();
+      // Length of last record pointing far past end of file.
+      flipByte(file, length - RECORD_LENGTH + 1);
+      assertEquals(Collections.singletonList(1L), load(file, "header"));
+      assertEquals(length - RECORD_LENGTH, file.length());
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testGarbageTailIsDropped() throws Exception {
+    File file = File.createTempFile("journal", ".bin");
+    try {
+      create(file, "header", 1).close();
+      long length = file.length();
+      try (FileOutputStream fos = new FileOutputStream(file, true)) {
+        fos.write(new byte[] {0, 0, 0, 8, 1, 2, 3, 4, 5, 6, 7, 8, 9, 9, 9, 9});
+      }
+      assertEquals(Collections.singletonList(1L), load(file, "header"));
+      assertEquals(length, file.length());
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testAppendAfterRecovery() throws Exception {
+    File file = File.createTempFile("journal", ".bin");
+    try {
+      create(file, "header", 1, 2).close();
+      truncate(file, file.length() - 3);
+
+      JournalFile journal = JournalFile.load(file, MAGIC, in -> in.readUTF(), in -> in.readLong());
+      assertNotNull(journal);
+      journal.append(out -> out.writeLong(5));
+      journal.close();
+
+      assertEquals(Arrays.asList(1L, 5L), load(file, "header"));
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testInvalidJournals() throws Exception {
+    File file = File.createTempFile("journal", ".bin");
+    try {
+      // Empty file.
+      assertNull(load(file, "header"));
+
+      // Other magic number.
+      JournalFile.create(file, MAGIC + 1, out -> out.writeUTF("header")).close();
+      assertNull(load(file, "header"));
+
+      // Torn header.
+      create(file, "header").close();
+      truncate(file, file.length() - 1);
+      assertNull(load(file, "header"));
+
+      // Corrupt header.
+      create(file, "header").close();
+      flipByte(file, 10);
+      assertNull(load(file, "header"));
+    } finally {
+      file.delete();
+    }
+
+    assertNull(load(file, "header"));
+  }
+
+  @Test
+  public void testDelete() throws Exception {
+    File file = File.createTempFile("journal", ".bin");
+    create(file, "header", 1).delete();
+    assertFalse(file.exists());
+  }
+
+  @Test
+  public void testUploadJournal() throws Exception {
+    File file = File.createTempFile("journal", ".bin");
+    try {
+      UploadJournal journal = UploadJournal.create(file, "bucket", "日本語", "upload", 100, 10, 5);
+      journal.append(2, "\"etag2\"");
+      journal.append(1, "\"etag1\"");
+      journal.close();
+      truncate(file, file.length() - 1);
+
+      journal = UploadJournal.load(file);
+      assertNotNull(journal);
+      assertTrue(journal.matches("bucket", "日本語", 100, 10, 5));
+      assertFalse(journal.matches("bucket", "日本語", 100, 11, 5));
+      assertEquals("upload", journal.uploadId());
+      Map<Integer, String> etags = new TreeMap<>();
+      etags.put(2, "\"etag2\"");
+      assertEquals(etags, journal.etags());
+      journal.delete();
+      assertFalse(file.exists());
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testDownloadJournal() throws Exception {
+    File file = File.createTempFile("journal", ".bin");
+    try {
+      DownloadJournal journal = DownloadJournal.create(file, "bucket", "object", null, "e", 30, 10);
+      journal.append(0, 5);
+      journal.append(10, 20);
+      journal.append(0, 10);
+      journal.close();
+      flipByte(file, file.length() - 1);
+
+      journal = DownloadJournal.load(file);
+      assertNotNull(journal);
+      assertTrue(journal.matches("bucket", "object", null, "e", 30, 10));
+      assertFalse(journal.matches("bucket", "object", "v1", "e", 30, 10));
+      assertEquals(5, journal.offset(0));
+      assertEquals(20, journal.offset(10));
+      assertEquals(20, journal.offset(20));
+      journal.close();
+    } finally {
+      file.delete();
+    }
+  }
+}
@@ -0,0 +1,266 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.minio.messages.Item;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Test;
+
+public class ListingSnapshotTest {
+  private static final String[] ETAGS = {
+    "\"d41d8cd98f00b204e9800998ecf8427e\"", // quoted MD5
+    "\"9b2cf535f27731c974343645a3985328-10\"", // multipart
+    "d41d8cd98f00b204e9800998ecf8427e", // unquoted
+    "\"D41D8CD98F00B204E9800998ECF8427E\"", // uppercase hex
+    "\"abc\"", // odd length hex
+    "\"9b2cf535f27731c974343645a3985328-010\"", // part count with leading zero
+    "\"not-hex-etag\"",
+    "W/\"weak\"",
+    "\"\"",
+    "",
+    null,
+  };
+
+  private static final String[] NAMES = {
+    "a", "dir/obj-0001", "dir/obj-0002", "dir/obj-0010", "dir/sub/", "é", "日本語/ファイル", "😀"
+  };
+
+  private static ListingSnapshot snapshot(int count) {
+    ListingSnapshot snapshot = new ListingSnapshot();
+    for (int i = 0; i < count; i++) {
+      snapshot.add(
+          String.format("key-%05d", i),
+          i * 3L,
+          1588327200000L + i,
+          ETAGS[i % ETAGS.length],
+          (i % 3 == 0) ? null : ((i % 3 == 1) ? "STANDARD" : "GLACIER"),
+          false);
+    }
+    return snapshot;
+  }
+
+  private static void assertSameItems(ListingSnapshot expected, ListingSnapshot actual) {
+    assertEquals(expected.size(), actual.size());
+    assertEquals(expected.isSorted(), actual.isSorted());
+    Iterator<Item> iterator = actual.iterator();
+    for (int i = 0; i < expected.size(); i++) {
+      Item item = iterator.next();
+      assertEquals(expected.objectName(i), item.objectName());
+      assertEquals(expected.objectName(i), actual.objectName(i));
+      assertEquals(expected.objectSize(i), actual.objectSize(i));
+      assertEquals(expected.lastModifiedMillis(i), actual.lastModifiedMillis(i));
+      assertEquals(expected.etag(i), actual.etag(i));
+      assertEquals(expected.storageClass(i), actual.storageClass(i));
+      assertEquals(expected.isDir(i), actual.isDir(i));
+    }
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  public void testValues() {
+    ListingSnapshot snapshot = snapshot(100);
+    assertEquals(100, snapshot.size());
+    assertTrue(snapshot.isSorted());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(String.format("key-%05d", i), snapshot.objectName(i));
+      assertEquals(i * 3L, snapshot.objectSize(i));
+      assertEquals(1588327200000L + i, snapshot.lastModifiedMillis(i));
+      assertEquals(ETAGS[i % ETAGS.length], snapshot.etag(i));
+      assertEquals(
+          (i % 3 == 0) ? null : ((i % 3 == 1) ? "STANDARD" : "GLACIER"),
+          snapshot.storageClass(i));
+    }
+  }
+
+  @Test
+  public void testEtags() {
+    ListingSnapshot snapshot = new ListingSnapshot();
+    for (int i = 0; i < ETAGS.length; i++) {
+      snapshot.add("key-" + i, 1, 0, ETAGS[i], null, false);
+    }
+    for (int i = 0; i < ETAGS.length; i++) {
+      assertEquals(ETAGS[i], snapshot.etag(i));
+      assertEquals(ETAGS[i], snapshot.get(i).etag());
+    }
+  }
+
+  @Test
+  public void testNonAsciiNames() {
+    ListingSnapshot snapshot = new ListingSnapshot();
+    for (String name : NAMES) {
+      snapshot.add(name, 1, 0, null, null, name.endsWith("/"));
+    }
+    assertTrue(snapshot.isSorted());
+    for (int i = 0; i < NAMES.length; i++) {
+      assertEquals(NAMES[i], snapshot.objectName(i));
+      assertEquals(i, snapshot.indexOf(NAMES[i]));
+    }
+    assertTrue(snapshot.isDir(4));
+    assertTrue(snapshot.get(4).isDir());
+  }
+
+  @Test
+  public void testIndexOfSorted() {
+    ListingSnapshot snapshot = snapshot(1000);
+    assertTrue(snapshot.isSorted());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(i, snapshot.indexOf(String.format("key-%05d", i)));
+    }
+    assertEquals(-1, snapshot.indexOf(""));
+    assertEquals(-1, snapshot.indexOf("key-"));
+    assertEquals(-1, snapshot.indexOf("key-00010x"));
+    assertEquals(-1, snapshot.indexOf("key-99999"));
+    assertEquals(-1, new ListingSnapshot().indexOf("a"));
+  }
+
+  @Test
+  public void testIndexOfUnsorted() {
+    ListingSnapshot snapshot = new ListingSnapshot();
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      String name = String.format("key-%05d", (i * 37) % 100);
+      names.add(name);
+      snapshot.add(name, i, 0, null, null, false);
+    }
+    assertFalse(snapshot.isSorted());
+    for (int i = 0; i < names.size(); i++) {
+      assertEquals(i, snapshot.indexOf(names.get(i)));
+    }
+    assertEquals(-1, snapshot.indexOf("key-00100"));
+  }
+
+  @Test
+  public void testTrimToSizeThenAdd() {
+    ListingSnapshot expected = snapshot(50);
+    ListingSnapshot snapshot = snapshot(40);
+    snapshot.trimToSize();
+    for (int i = 40; i < 50; i++) {
+      snapshot.add(expected.get(i));
+      snapshot.trimToSize();
+    }
+    assertSameItems(expected, snapshot);
+
+    ListingSnapshot empty = new ListingSnapshot();
+    empty.trimToSize();
+    empty.add("a", 1, 0, "\"e\"", null, false);
+    assertEquals("a", empty.objectName(0));
+    assertEquals(0, empty.indexOf("a"));
+  }
+
+  @Test
+  public void testAddItem() {
+    ListingSnapshot expected = snapshot(40);
+    ListingSnapshot snapshot = new ListingSnapshot();
+    for (Item item : expected) {
+      snapshot.add(item);
+    }
+    assertSameItems(expected, snapshot);
+  }
+
+  @Test
+  public void testFileRoundTrip() throws Exception {
+    ListingSnapshot expected = snapshot(1000);
+    for (String name : NAMES) {
+      expected.add("z/" + name, 5, 1, "\"abc-2\"", "STANDARD", false);
+    }
+
+    File file = File.createTempFile("snapshot", ".bin");
+    try {
+      try (ListingSnapshotFile out = ListingSnapshotFile.create(file, "bucket", "")) {
+        // Chunks start in the middle of front-coding blocks.
+        out.checkpoint(expected, 0, "token1");
+        out.checkpoint(expected, expected.size(), null);
+      }
+      assertSameItems(expected, ListingSnapshot.read(file));
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testChunkedFileRoundTrip() throws Exception {
+    ListingSnapshot expected = snapshot(100);
+    File file = File.createTempFile("snapshot", ".bin");
+    try {
+      ListingSnapshot partial = new ListingSnapshot();
+      try (ListingSnapshotFile out = ListingSnapshotFile.create(file, "bucket", "prefix/")) {
+        int from = 0;
+        for (int i = 0; i < expected.size(); i++) {
+          partial.add(expected.get(i));
+          if (i % 7 == 6) {
+            out.checkpoint(partial, from, "token" + i);
+            from = partial.size();
+          }
+        }
+        out.checkpoint(partial, from, null);
+      }
+
+      ListingSnapshotFile.Checkpoint checkpoint = ListingSnapshotFile.read(file);
+      assertTrue(checkpoint.complete());
+      assertNull(checkpoint.continuationToken());
+      assertEquals("prefix/", checkpoint.prefix());
+      assertSameItems(expected, checkpoint.snapshot());
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testTornChunkResumesFromLastWholeChunk() throws Exception {
+    ListingSnapshot expected = snapshot(20);
+    File file = File.createTempFile("snapshot", ".bin");
+    try {
+      try (ListingSnapshotFile out = ListingSnapshotFile.create(file, "bucket", "")) {
+        out.checkpoint(expected, 0, "token1");
+      }
+      long length = file.length();
+      ListingSnapshot rest = snapshot(30);
+      try (ListingSnapshotFile out =
+          ListingSnapshotFile.append(file, ListingSnapshotFile.read(file))) {
+        out.checkpoint(rest, 20, null);
+      }
+
+      try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+        raf.setLength(file.length() - 1);
+      }
+      ListingSnapshotFile.Checkpoint checkpoint = ListingSnapshotFile.read(file);
+      assertFalse(checkpoint.complete());
+      assertEquals("token1", checkpoint.continuationToken());
+      assertSameItems(expected, checkpoint.snapshot());
+
+      // Appending after the torn chunk drops it.
+      try (ListingSnapshotFile out = ListingSnapshotFile.append(file, checkpoint)) {
+        assertEquals(length, file.length());
+        out.checkpoint(rest, 20, null);
+      }
+      checkpoint = ListingSnapshotFile.read(file);
+      assertTrue(checkpoint.complete());
+      assertSameItems(rest, checkpoint.snapshot());
+    } finally {
+      file.delete();
+    }
+  }
+}
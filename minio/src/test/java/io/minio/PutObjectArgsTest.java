@@ -0,0 +1,75 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+public class PutObjectArgsTest {
+  private static final int MB = 1024 * 1024;
+
+  @Test
+  public void testExplicitPartSizeIsKept() throws Exception {
+    PutObjectArgs args =
+        PutObjectArgs.builder()
+            .bucket("bucket")
+            .object("object")
+            .stream(new ByteArrayInputStream(new byte[0]), 80L * MB, 5L * MB)
+            .adaptivePartSize(true)
+            .build();
+    assertTrue(args.explicitPartSize());
+    assertEquals(5L * MB, args.partSize());
+    assertEquals(16, args.partCount());
+
+    args =
+        PutObjectArgs.builder()
+            .bucket("bucket")
+            .object("object")
+            .buffer(ByteBuffer.allocate(12 * MB), 6L * MB)
+            .adaptivePartSize(true)
+            .build();
+    assertTrue(args.explicitPartSize());
+    assertEquals(6L * MB, args.partSize());
+  }
+
+  @Test
+  public void testComputedPartSize() throws Exception {
+    PutObjectArgs args =
+        PutObjectArgs.builder()
+            .bucket("bucket")
+            .object("object")
+            .stream(new ByteArrayInputStream(new byte[0]), 80L * MB, -1)
+            .adaptivePartSize(true)
+            .build();
+    assertFalse(args.explicitPartSize());
+    assertTrue(args.adaptivePartSize());
+
+    args =
+        PutObjectArgs.builder()
+            .bucket("bucket")
+            .object("object")
+            .buffer(ByteBuffer.allocate(12 * MB), -1)
+            .build();
+    assertFalse(args.explicitPartSize());
+    assertFalse(args.adaptivePartSize());
+  }
+}
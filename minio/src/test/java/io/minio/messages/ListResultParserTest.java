@@ -0,0 +1,256 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage, (C) 2020 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio.messages;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.minio.Xml;
+import io.minio.errors.XmlParserException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.Test;
+
+public class ListResultParserTest {
+  private static final String NS = " xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\"";
+
+  private static final String V1 =
+      "<ListBucketResult"
+          + NS
+          + "><Name>bucket</Name><Prefix>dir/</Prefix><Marker>dir/a</Marker>"
+          + "<NextMarker>dir/c</NextMarker><MaxKeys>2</MaxKeys><IsTruncated>true</IsTruncated>"
+          + "<Contents><Key>dir/b</Key><LastModified>2020-05-01T10:00:00.000Z</LastModified>"
+          + "<ETag>&quot;abc&quot;</ETag><Size>5</Size><StorageClass>STANDARD</StorageClass>"
+          + "</Contents>"
+          + "<Contents><Key>dir/c</Key><LastModified>2020-05-01T10:00:00Z</LastModified>"
+          + "<ETag>def</ETag><Size>7</Size></Contents>"
+          + "</ListBucketResult>";
+
+  private static final String V2 =
+      "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<ListBucketResult"
+          + NS
+          + "><Name>bucket</Name><Prefix></Prefix><NextContinuationToken>tok&amp;1"
+          + "</NextContinuationToken><KeyCount>3</KeyCount><MaxKeys>1000</MaxKeys>"
+          + "<Delimiter>/</Delimiter><EncodingType>url</EncodingType>"
+          + "<IsTruncated>true</IsTruncated>"
+          + "<Contents><Key>a&lt;1&gt;</Key><LastModified>2020-05-01T10:00:00.000Z</LastModified>"
+          + "<ETag>&quot;e1&quot;</ETag><Size>10</Size>"
+          + "<Owner><ID>id1</ID><DisplayName>owner</DisplayName></Owner>"
+          + "<StorageClass>STANDARD</StorageClass>"
+          + "<UserMetadata><X-Amz-Meta-Color>blue</X-Amz-Meta-Color>"
+          + "<content-type>text/plain</content-type></UserMetadata>"
+          + "<Unknown><Nested>x</Nested>text</Unknown></Contents>"
+          + "<CommonPrefixes><Prefix>p1/</Prefix></CommonPrefixes>"
+          + "<CommonPrefixes><Prefix>p2/</Prefix></CommonPrefixes>"
+          + "</ListBucketResult>";
+
+  private static final String VERSIONS =
+      "<ListVersionsResult"
+          + NS
+          + "><Name>bucket</Name><KeyMarker></KeyMarker><NextKeyMarker>c</NextKeyMarker>"
+          + "<NextVersionIdMarker>v3</NextVersionIdMarker><IsTruncated>true</IsTruncated>"
+          + "<Version><Key>a</Key><VersionId>v1</VersionId><IsLatest>true</IsLatest>"
+          + "<LastModified>2020-05-01T10:00:00.000Z</LastModified><ETag>e1</ETag><Size>5</Size>"
+          + "<StorageClass>STANDARD</StorageClass></Version>"
+          + "<DeleteMarker><Key>b</Key><VersionId>v2</VersionId><IsLatest>true</IsLatest>"
+          + "<LastModified>2020-05-01T10:00:00.000Z</LastModified></DeleteMarker>"
+          + "<Version><Key>c</Key><VersionId>v3</VersionId><IsLatest>false</IsLatest>"
+          + "<LastModified>2020-05-01T10:00:00.000Z</LastModified><ETag>e3</ETag><Size>7</Size>"
+          + "</Version></ListVersionsResult>";
+
+  private static InputStream stream(String xml) {
+    return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String dump(ListObjectsResult result) {
+    StringBuilder builder = new StringBuilder();
+    builder
+        .append(result.name())
+        .append('|')
+        .append(result.prefix())
+        .append('|')
+        .append(result.delimiter())
+        .append('|')
+        .append(result.isTruncated())
+        .append('|')
+        .append(result.maxKeys())
+        .append('|')
+        .append(result.useUrlEncodingType());
+    for (Item item : result.contents()) {
+      builder.append('\n').append(dump(item));
+    }
+    for (Item item : result.deleteMarkers()) {
+      builder.append("\nDM ").append(dump(item));
+    }
+    for (Prefix prefix : result.commonPrefixes()) {
+      builder.append("\nP ").append(dump(prefix.toItem()));
+    }
+    return builder.toString();
+  }
+
+  private static String dump(Item item) {
+    return item.getClass().getSimpleName()
+        + " "
+        + item.objectName()
+        + " "
+        + item.etag()
+        + " "
+        + item.size()
+        + " "
+        + item.storageClass()
+        + " "
+        + item.isLatest()
+        + " "
+        + item.versionId()
+        + " "
+        + item.isDir()
+        + " "
+        + item.isDeleteMarker()
+        + " "
+        + (item.isDir() ? null : item.lastModified())
+        + " "
+        + ((item.owner() == null) ? null : item.owner().id() + "/" + item.owner().displayName())
+        + " "
+        + item.userMetadata();
+  }
+
+  @Test
+  public void testListBucketResultV1() throws Exception {
+    ListBucketResultV1 result = ListResultParser.listBucketResultV1(stream(V1)).result();
+    assertEquals("bucket", result.name());
+    assertEquals("dir/", result.prefix());
+    assertEquals("dir/a", result.marker());
+    assertEquals("dir/c", result.nextMarker());
+    assertEquals(2, result.maxKeys());
+    assertTrue(result.isTruncated());
+
+    List<Contents> contents = result.contents();
+    assertEquals(2, contents.size());
+    assertEquals("dir/b", contents.get(0).objectName());
+    assertEquals("\"abc\"", contents.get(0).etag());
+    assertEquals(5, contents.get(0).size());
+    assertEquals("dir/c", contents.get(1).objectName());
+    assertEquals(7, contents.get(1).size());
+    assertEquals(dump(Xml.unmarshal(ListBucketResultV1.class, V1)), dump(result));
+  }
+
+  @Test
+  public void testListBucketResultV2() throws Exception {
+    ListBucketResultV2 result = ListResultParser.listBucketResultV2(stream(V2)).result();
+    assertEquals("tok&1", result.nextContinuationToken());
+    assertEquals(3, result.keyCount());
+    assertEquals("/", result.delimiter());
+    assertTrue(result.useUrlEncodingType());
+
+    Item item = result.contents().get(0);
+    assertEquals("a<1>", item.objectName());
+    assertEquals(10, item.size());
+    assertEquals(dump(Xml.unmarshal(ListBucketResultV2.class, V2)), dump(result));
+  }
+
+  @Test
+  public void testCommonPrefixes() throws Exception {
+    ListBucketResultV2 result = ListResultParser.listBucketResultV2(stream(V2)).result();
+    assertEquals(2, result.commonPrefixes().size());
+    assertEquals("p1/", result.commonPrefixes().get(0).toItem().objectName());
+    assertTrue(result.commonPrefixes().get(1).toItem().isDir());
+    assertEquals("p2/", result.commonPrefixes().get(1).toItem().objectName());
+  }
+
+  @Test
+  public void testOwnerAndUserMetadata() throws Exception {
+    Item item = ListResultParser.listBucketResultV2(stream(V2)).result().contents().get(0);
+    assertEquals("id1", item.owner().id());
+    assertEquals("owner", item.owner().displayName());
+    assertEquals(2, item.userMetadata().size());
+    assertEquals("blue", item.userMetadata().get("X-Amz-Meta-Color"));
+    assertEquals("text/plain", item.userMetadata().get("content-type"));
+  }
+
+  @Test
+  public void testUnknownNestedElements() throws Exception {
+    String xml =
+        "<ListBucketResult"
+            + NS
+            + "><Name>bucket</Name><Extra><A><B>1</B></A></Extra>"
+            + "<Contents><Key>a</Key><Extra><Deep>x</Deep></Extra><Size>3</Size></Contents>"
+            + "<IsTruncated>false</IsTruncated></ListBucketResult>";
+    ListBucketResultV2 result = ListResultParser.listBucketResultV2(stream(xml)).result();
+    assertEquals("bucket", result.name());
+    assertFalse(result.isTruncated());
+    assertEquals(1, result.contents().size());
+    assertEquals("a", result.contents().get(0).objectName());
+    assertEquals(3, result.contents().get(0).size());
+  }
+
+  @Test
+  public void testListVersionsResult() throws Exception {
+    ListVersionsResult result = ListResultParser.listVersionsResult(stream(VERSIONS)).result();
+    assertEquals("c", result.nextKeyMarker());
+    assertEquals("v3", result.nextVersionIdMarker());
+    assertEquals(2, result.contents().size());
+    assertEquals("v1", result.contents().get(0).versionId());
+    assertTrue(result.contents().get(0).isLatest());
+    assertFalse(result.contents().get(1).isLatest());
+    assertEquals(1, result.deleteMarkers().size());
+    assertEquals("b", result.deleteMarkers().get(0).objectName());
+    assertTrue(result.deleteMarkers().get(0).isDeleteMarker());
+    assertEquals(dump(Xml.unmarshal(ListVersionsResult.class, VERSIONS)), dump(result));
+  }
+
+  @Test
+  public void testNext() throws Exception {
+    ListResultParser<ListBucketResultV2> parser = ListResultParser.listBucketResultV2(stream(V2));
+    assertEquals("a<1>", parser.next().objectName());
+    assertEquals("p1/", parser.next().objectName());
+    assertEquals("p2/", parser.next().objectName());
+    assertNull(parser.next());
+    assertNull(parser.next());
+    assertEquals("tok&1", parser.partialResult().nextContinuationToken());
+    assertTrue(parser.partialResult().contents().isEmpty());
+  }
+
+  @Test(expected = XmlParserException.class)
+  public void testInvalidValue() throws Exception {
+    ListResultParser.listBucketResultV2(
+            stream("<ListBucketResult><Contents><Size>x</Size></Contents></ListBucketResult>"))
+        .result();
+  }
+
+  @Test(expected = XmlParserException.class)
+  public void testTruncatedDocument() throws Exception {
+    ListResultParser.listBucketResultV2(stream(V2.substring(0, V2.length() / 2))).result();
+  }
+
+  @Test(expected = XmlParserException.class)
+  public void testNonXml() throws Exception {
+    ListResultParser.listBucketResultV1(stream("not xml")).result();
+  }
+
+  @Test(expected = XmlParserException.class)
+  public void testDoctypeIsRejected() throws Exception {
+    ListResultParser.listBucketResultV2(
+            stream(
+                "<!DOCTYPE x [<!ENTITY e SYSTEM \"file:///etc/passwd\">]>"
+                    + "<ListBucketResult><Name>&e;</Name></ListBucketResult>"))
+        .result();
+  }
+}